@@ -0,0 +1,41 @@
+package project.benchmark;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDate;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+/**
+ * The projects table mapped with the IDENTITY strategy the application used before the
+ * pooled table generator, as the baseline of {@link ProjectInsertBenchmark}.
+ */
+@Entity
+@Table(name = "projects")
+@Data
+@Accessors(chain = true)
+public class IdentityProject {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    @Column(nullable = false)
+    private String name;
+    private String description;
+    @Column(nullable = false)
+    private LocalDate startDate;
+    @Column(nullable = false)
+    private LocalDate endDate;
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    @Column(nullable = false, columnDefinition = "VARCHAR")
+    private String status;
+    @Column(nullable = false)
+    private boolean isDeleted;
+    @Version
+    private Long version;
+}
@@ -0,0 +1,6 @@
+package project.benchmark;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface IdentityProjectRepository extends JpaRepository<IdentityProject, Long> {
+}
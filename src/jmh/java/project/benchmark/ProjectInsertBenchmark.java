@@ -0,0 +1,130 @@
+package project.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.TaskManagementSystemApplication;
+import project.model.Project;
+import project.model.User;
+import project.repository.ProjectRepository;
+import project.repository.UserRepository;
+
+/**
+ * Bulk project creation through {@link ProjectRepository#saveAll} in the application
+ * context, with the pooled table generator and JDBC batching, against the same inserts of
+ * an IDENTITY mapped entity. Scores are inserts per second. Needs a migrated MySQL
+ * database, e.g. -Djmh.args="ProjectInsert -jvmArgsAppend
+ * -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/benchmark".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProjectInsertBenchmark {
+    private static final int PROJECTS = 500;
+    private ConfigurableApplicationContext context;
+    private ProjectRepository projectRepository;
+    private IdentityProjectRepository identityProjectRepository;
+    private UserRepository userRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private Long ownerId;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TaskManagementSystemApplication.class)
+                .properties(
+                        "spring.datasource.url=" + System.getProperty("benchmark.jdbc.url",
+                                "jdbc:mysql://localhost:3306/task_management_system"),
+                        "spring.datasource.username="
+                                + System.getProperty("benchmark.jdbc.username", "root"),
+                        "spring.datasource.password="
+                                + System.getProperty("benchmark.jdbc.password", ""),
+                        "jwt.secret=benchmark-secret-benchmark-secret-benchmark-secret-0123",
+                        "server.port=0",
+                        "scheduling.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        projectRepository = context.getBean(ProjectRepository.class);
+        identityProjectRepository = context.getBean(IdentityProjectRepository.class);
+        userRepository = context.getBean(UserRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        transactionTemplate = new TransactionTemplate(
+                context.getBean(PlatformTransactionManager.class));
+        String name = "benchmark" + System.nanoTime();
+        ownerId = transactionTemplate.execute(status -> userRepository.save(new User()
+                .setUsername(name)
+                .setEmail(name + "@example.com")
+                .setPassword("benchmark")
+                .setFirstName("Benchmark")
+                .setLastName("Owner")).getId());
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteProjects() {
+        jdbcTemplate.update("DELETE FROM projects WHERE user_id = ?", ownerId);
+    }
+
+    @TearDown
+    public void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", ownerId);
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJECTS)
+    public List<Project> saveAllWithPooledIds() {
+        return transactionTemplate.execute(status -> {
+            User owner = userRepository.getReferenceById(ownerId);
+            List<Project> projects = new ArrayList<>(PROJECTS);
+            for (int i = 0; i < PROJECTS; i++) {
+                projects.add(new Project()
+                        .setName("project" + i)
+                        .setDescription("description" + i)
+                        .setStartDate(LocalDate.now())
+                        .setEndDate(LocalDate.now().plusDays(3))
+                        .setUser(owner));
+            }
+            return projectRepository.saveAll(projects);
+        });
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROJECTS)
+    public List<IdentityProject> saveAllWithIdentity() {
+        return transactionTemplate.execute(status -> {
+            List<IdentityProject> projects = new ArrayList<>(PROJECTS);
+            for (int i = 0; i < PROJECTS; i++) {
+                projects.add(new IdentityProject()
+                        .setName("project" + i)
+                        .setDescription("description" + i)
+                        .setStartDate(LocalDate.now())
+                        .setEndDate(LocalDate.now().plusDays(3))
+                        .setUserId(ownerId)
+                        .setStatus(Project.Status.INITIATED.name()));
+            }
+            return identityProjectRepository.saveAll(projects);
+        });
+    }
+}
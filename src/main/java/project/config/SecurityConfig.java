@@ -1,20 +1,21 @@
 package project.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import project.secure.JwtAuthenticationFilter;
+import project.secure.PasswordEncoderCalibrator;
+import project.secure.TimedPasswordEncoder;
 
 @EnableMethodSecurity
 @RequiredArgsConstructor
@@ -30,6 +31,8 @@ public class SecurityConfig {
                        .csrf(AbstractHttpConfigurer::disable)
                        .authorizeHttpRequests(
                                auth -> auth
+                                               .dispatcherTypeMatchers(DispatcherType.ASYNC)
+                                               .permitAll()
                                                .requestMatchers("/auth/**")
                                                .permitAll()
                                                .anyRequest()
@@ -45,14 +48,10 @@ public class SecurityConfig {
     }
     
     @Bean
-    public AuthenticationManager authenticationManager(
-            AuthenticationConfiguration authenticationConfiguration) throws Exception {
-        return authenticationConfiguration.getAuthenticationManager();
-    }
-    
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordEncoderCalibrator passwordEncoderCalibrator,
+                                           MeterRegistry meterRegistry) {
+        return new TimedPasswordEncoder(passwordEncoderCalibrator.createEncoder(),
+                meterRegistry);
     }
 }
 
@@ -2,7 +2,10 @@ package project.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -16,6 +19,8 @@ import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserTokenResponseDto;
 import project.exception.AuthenticationException;
 import project.secure.AuthenticationService;
+import project.secure.LoginThrottle;
+import project.secure.PasswordHashingExecutor;
 
 @Tag(name = "Authentication")
 @RequiredArgsConstructor
@@ -23,29 +28,57 @@ import project.secure.AuthenticationService;
 @RequestMapping("/auth")
 public class AuthenticationController {
     private final AuthenticationService authenticationService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final LoginThrottle loginThrottle;
     
     @PostMapping("/register/admin")
     @Operation(summary = "Registration for administrators")
     @ResponseStatus(HttpStatus.CREATED)
-    UserResponseDto registerForAdmin(@RequestBody @Valid
-                                                 UserRegistrationRequestDto requestDto)
-            throws AuthenticationException {
-        return authenticationService.register(requestDto, true);
+    CompletableFuture<UserResponseDto> registerForAdmin(@RequestBody @Valid
+                                                 UserRegistrationRequestDto requestDto,
+                                                        HttpServletRequest request) {
+        return submitRegistration(requestDto, request.getRemoteAddr(),
+                () -> authenticationService.register(requestDto, true));
     }
     
     @PostMapping("/register")
     @Operation(summary = "Registration for users")
     @ResponseStatus(HttpStatus.CREATED)
-    UserResponseDto register(@RequestBody @Valid UserRegistrationRequestDto requestDto)
-            throws AuthenticationException {
-        return authenticationService.register(requestDto, false);
+    CompletableFuture<UserResponseDto> register(@RequestBody @Valid
+                                                    UserRegistrationRequestDto requestDto,
+                                                HttpServletRequest request) {
+        return submitRegistration(requestDto, request.getRemoteAddr(),
+                () -> authenticationService.register(requestDto, false));
     }
     
     @PostMapping("/login")
     @Operation(summary = "Login in profile")
     @ResponseStatus(HttpStatus.OK)
-    UserTokenResponseDto login(@RequestBody @Valid UserLoginRequestDto requestDto)
-            throws AuthenticationException {
-        return authenticationService.login(requestDto);
+    CompletableFuture<UserTokenResponseDto> login(@RequestBody @Valid
+                                                      UserLoginRequestDto requestDto,
+                                                  HttpServletRequest request) {
+        return submitThrottled(requestDto.getEmailOrUsername(), request.getRemoteAddr(),
+                () -> authenticationService.login(requestDto));
+    }
+    
+    private <T> CompletableFuture<T> submitRegistration(UserRegistrationRequestDto requestDto,
+                                                        String clientIp, Callable<T> task) {
+        loginThrottle.checkRegistration(requestDto.getUsername(), requestDto.getEmail(),
+                clientIp);
+        loginThrottle.recordRegistration(requestDto.getUsername(), requestDto.getEmail(),
+                clientIp);
+        return passwordHashingExecutor.submit(task);
+    }
+    
+    private <T> CompletableFuture<T> submitThrottled(String account, String clientIp,
+                                                     Callable<T> task) {
+        loginThrottle.check(account, clientIp);
+        return passwordHashingExecutor.submit(task).whenComplete((result, ex) -> {
+            if (ex instanceof AuthenticationException) {
+                loginThrottle.recordFailure(account, clientIp);
+            } else if (ex == null) {
+                loginThrottle.recordSuccess(account);
+            }
+        });
     }
 }
@@ -1,72 +1,311 @@
 package project.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.security.core.Authentication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import project.dto.DataFormat;
+import project.dto.project.CalendarGranularity;
+import project.dto.project.ProjectBatchCreateRequestDto;
+import project.dto.project.ProjectBatchDeleteRequestDto;
+import project.dto.project.ProjectBatchItemResponseDto;
+import project.dto.project.ProjectBatchUpdateRequestDto;
+import project.dto.project.ProjectCalendarBucketDto;
+import project.dto.project.ProjectPageResponseDto;
 import project.dto.project.ProjectRequestDto;
 import project.dto.project.ProjectResponseDto;
+import project.dto.project.ProjectStatusRequestDto;
+import project.dto.project.ProjectSummaryResponseDto;
+import project.exception.InvalidParameterException;
+import project.exception.PreconditionFailedException;
+import project.model.Project;
+import project.secure.AuthenticatedUser;
+import project.service.ImportService;
 import project.service.ProjectService;
+import project.util.EtagUtil;
 
 @Tag(name = "Projects management")
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/projects")
 public class ProjectController {
+    private static final String ANY_ETAG = "*";
+    private static final String MERGE_PATCH_JSON = "application/merge-patch+json";
     private final ProjectService projectService;
+    private final ImportService importService;
 
     @PostMapping
     @Operation(summary = "Create a new project")
     @ResponseStatus(HttpStatus.CREATED)
     public ProjectResponseDto create(@RequestBody @Valid
                                          ProjectRequestDto projectRequestDto,
-                                     Authentication authentication) {
-        return projectService.create(projectRequestDto, authentication.getName());
+                                     @AuthenticationPrincipal AuthenticatedUser user) {
+        return projectService.create(projectRequestDto, user);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Create projects in batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProjectBatchItemResponseDto> createAll(
+            @RequestBody @Valid ProjectBatchCreateRequestDto requestDto,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return projectService.createAll(requestDto.getProjects(), user);
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Update projects in batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProjectBatchItemResponseDto> updateAll(
+            @RequestBody @Valid ProjectBatchUpdateRequestDto requestDto,
+            @AuthenticationPrincipal AuthenticatedUser user) throws InvalidParameterException {
+        return projectService.updateAll(requestDto.getProjects(), user);
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Delete projects in batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProjectBatchItemResponseDto> deleteAll(
+            @RequestBody @Valid ProjectBatchDeleteRequestDto requestDto,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        return projectService.deleteAll(requestDto.getIds(), user);
     }
 
     @GetMapping
     @Operation(summary = "Get user's projects")
+    public ResponseEntity<List<ProjectResponseDto>> getAll(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch,
+            Pageable pageable) {
+        String etag = EtagUtil.forProjectList(user.id(), projectService.getListVersion(user));
+        if (EtagUtil.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(projectService.getAll(user, pageable));
+    }
+
+    @GetMapping(params = {"fields", "!after"})
+    @Operation(summary = "Get selected fields of user's projects")
+    public ResponseEntity<List<Map<String, Object>>> getAllFields(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch,
+            @RequestParam String fields,
+            Pageable pageable) throws InvalidParameterException {
+        String etag = EtagUtil.forProjectList(user.id(), projectService.getListVersion(user),
+                fields);
+        if (EtagUtil.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(projectService.getAll(user, fields, pageable));
+    }
+
+    @GetMapping(params = "after")
+    @Operation(summary = "Get user's projects page by cursor")
+    public ResponseEntity<ProjectPageResponseDto> getPage(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch,
+            @RequestParam String after,
+            @RequestParam(defaultValue = "20") int size) throws InvalidParameterException {
+        String etag = EtagUtil.forProjectList(user.id(), projectService.getListVersion(user));
+        if (EtagUtil.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(projectService.getPage(user, after, size));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Search user's projects by name and description")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProjectResponseDto> search(@AuthenticationPrincipal AuthenticatedUser user,
+                                           @RequestParam String q,
+                                           Pageable pageable) throws InvalidParameterException {
+        return projectService.search(user, q, pageable);
+    }
+
+    @GetMapping("/summary")
+    @Operation(summary = "Get user's project counts by status",
+            description = "Counts only projects that are not archived. Completed projects "
+                    + "moved to the archive leave these counts and are listed by "
+                    + "GET /projects/archive instead")
+    @ResponseStatus(HttpStatus.OK)
+    public ProjectSummaryResponseDto getSummary(@AuthenticationPrincipal AuthenticatedUser user) {
+        return projectService.getSummary(user);
+    }
+
+    @GetMapping("/calendar")
+    @Operation(summary = "Get counts of user's projects active per day or week")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProjectCalendarBucketDto> getCalendar(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "day") String granularity)
+            throws InvalidParameterException {
+        return projectService.getCalendar(user, from, to, CalendarGranularity.of(granularity));
+    }
+
+    @GetMapping("/archive")
+    @Operation(summary = "Get user's archived projects")
     @ResponseStatus(HttpStatus.OK)
-    public List<ProjectResponseDto> getAll(Authentication authentication,
-                                           Pageable pageable) {
-        return projectService.getAll(authentication.getName(), pageable);
+    public List<ProjectResponseDto> getArchived(@AuthenticationPrincipal AuthenticatedUser user,
+                                                Pageable pageable) {
+        return projectService.getArchived(user, pageable);
+    }
+
+    @GetMapping("/export")
+    @Operation(summary = "Export all user's projects as NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> export(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "ndjson") String format)
+            throws InvalidParameterException {
+        DataFormat exportFormat = DataFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("projects." + exportFormat.getExtension())
+                        .build()
+                        .toString())
+                .body(outputStream -> projectService.export(user, exportFormat, outputStream));
+    }
+
+    @PostMapping("/import")
+    @Operation(summary = "Import projects from NDJSON or CSV")
+    public ResponseEntity<StreamingResponseBody> importProjects(
+            @AuthenticationPrincipal AuthenticatedUser user,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) throws InvalidParameterException {
+        DataFormat dataFormat = DataFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> importService.importProjects(user, dataFormat,
+                        request.getInputStream(), outputStream));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get project details by id")
-    @ResponseStatus(HttpStatus.OK)
-    public ProjectResponseDto get(@PathVariable Long id,
-                                  Authentication authentication) {
-        return projectService.get(id, authentication.getName());
+    public ResponseEntity<ProjectResponseDto> get(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false)
+            String ifNoneMatch,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        if (ifNoneMatch != null) {
+            Long version = projectService.getVersion(id, user);
+            if (version != null
+                    && EtagUtil.matches(ifNoneMatch, EtagUtil.forProject(id, version))) {
+                return notModified(EtagUtil.forProject(id, version));
+            }
+        }
+        ProjectResponseDto project = projectService.get(id, user);
+        String etag = EtagUtil.forProject(id, project.getVersion());
+        if (EtagUtil.matches(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .body(project);
     }
 
     @PutMapping("/{id}")
     @Operation(summary = "Update project")
-    @ResponseStatus(HttpStatus.OK)
-    public ProjectResponseDto update(@PathVariable Long id,
-                                     @RequestBody @Valid ProjectRequestDto projectRequestDto,
-                                     Authentication authentication) {
-        return projectService.update(id, projectRequestDto, authentication.getName());
+    public ResponseEntity<ProjectResponseDto> update(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid ProjectRequestDto projectRequestDto,
+            @AuthenticationPrincipal AuthenticatedUser user) {
+        ProjectResponseDto project = projectService.update(id, projectRequestDto, user,
+                getExpectedVersion(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(EtagUtil.forProject(id, project.getVersion()))
+                .body(project);
+    }
+
+    @PatchMapping(value = "/{id}",
+            consumes = {MERGE_PATCH_JSON, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update project with JSON merge patch")
+    public ResponseEntity<ProjectResponseDto> patch(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody JsonNode patch,
+            @AuthenticationPrincipal AuthenticatedUser user) throws InvalidParameterException {
+        ProjectResponseDto project = projectService.patch(id, patch, user,
+                getExpectedVersion(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(EtagUtil.forProject(id, project.getVersion()))
+                .body(project);
+    }
+
+    @PostMapping("/{id}/status")
+    @Operation(summary = "Change project status")
+    public ResponseEntity<ProjectResponseDto> changeStatus(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody @Valid ProjectStatusRequestDto projectStatusRequestDto,
+            @AuthenticationPrincipal AuthenticatedUser user) throws InvalidParameterException {
+        ProjectResponseDto project = projectService.changeStatus(id,
+                Project.Status.valueOf(projectStatusRequestDto.getStatus()), user,
+                getExpectedVersion(ifMatch, id));
+        return ResponseEntity.ok()
+                .eTag(EtagUtil.forProject(id, project.getVersion()))
+                .body(project);
     }
 
     @DeleteMapping("/{id}")
     @Operation(summary = "Delete project")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     public void delete(@PathVariable Long id,
-                                     Authentication authentication) {
-        projectService.delete(id, authentication.getName());
+                                     @AuthenticationPrincipal AuthenticatedUser user) {
+        projectService.delete(id, user);
+    }
+
+    private <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .build();
+    }
+
+    private Long getExpectedVersion(String ifMatch, Long id) {
+        if (ifMatch == null || ifMatch.trim().equals(ANY_ETAG)) {
+            return null;
+        }
+        Long version = EtagUtil.parseProjectVersion(ifMatch, id);
+        if (version == null) {
+            throw new PreconditionFailedException("If-Match does not match project with id "
+                    + id);
+        }
+        return version;
     }
 }
@@ -2,25 +2,38 @@ package project.controller;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.security.core.Authentication;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import project.dto.DataFormat;
 import project.dto.user.request.RoleRequestDto;
 import project.dto.user.request.UserUpdatePasswordRequestDto;
 import project.dto.user.request.UserUpdatePersonalInfoRequestDto;
 import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserUpdateResponseDto;
 import project.exception.DataEditingException;
+import project.exception.InvalidParameterException;
 import project.model.User;
+import project.secure.AuthenticatedUser;
+import project.secure.PasswordHashingExecutor;
+import project.service.ImportService;
 import project.service.UserService;
 
 @Tag(name = "User management")
@@ -29,12 +42,23 @@ import project.service.UserService;
 @RequestMapping("/users")
 public class UserController {
     private final UserService userService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final ImportService importService;
 
     @GetMapping("/me")
     @Operation(summary = "Get user`s profile info")
     @ResponseStatus(HttpStatus.OK)
-    public UserResponseDto getProfileInfo(Authentication authentication) {
-        return userService.getByUsername(authentication.getName());
+    public UserResponseDto getProfileInfo(@AuthenticationPrincipal AuthenticatedUser user) {
+        return userService.get(user);
+    }
+
+    @GetMapping(value = "/me", params = "fields")
+    @Operation(summary = "Get selected fields of user`s profile info")
+    @ResponseStatus(HttpStatus.OK)
+    public Map<String, Object> getProfileFields(@AuthenticationPrincipal AuthenticatedUser user,
+                                                @RequestParam String fields)
+            throws InvalidParameterException {
+        return userService.get(user, fields);
     }
 
     @PutMapping("/{id}/role")
@@ -43,10 +67,10 @@ public class UserController {
     @ResponseStatus(HttpStatus.OK)
     public void updateUserRole(@PathVariable Long id,
                                            @RequestBody @Valid RoleRequestDto roleRequestDto,
-                                           Authentication authentication)
+                                           @AuthenticationPrincipal AuthenticatedUser user)
                                             throws DataEditingException {
         userService.updateRole(id, User.Role.valueOf(roleRequestDto.getRole()),
-                authentication.getName());
+                user);
     }
 
     @PutMapping("/me")
@@ -54,18 +78,33 @@ public class UserController {
     @ResponseStatus(HttpStatus.OK)
     public UserUpdateResponseDto updatePersonalInfo(
             @RequestBody @Valid UserUpdatePersonalInfoRequestDto userUpdatePersonalInfoRequestDto,
-            Authentication authentication) throws DataEditingException {
+            @AuthenticationPrincipal AuthenticatedUser user) throws DataEditingException {
         return userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto,
-                authentication.getName());
+                user);
     }
 
     @PutMapping("/me/password")
     @Operation(summary = "Update user`s password")
     @ResponseStatus(HttpStatus.OK)
-    public void updatePassword(@RequestBody @Valid UserUpdatePasswordRequestDto
+    public CompletableFuture<Void> updatePassword(@RequestBody @Valid UserUpdatePasswordRequestDto
                                                       userUpdatePasswordRequestDto,
-                                          Authentication authentication)
-                                                        throws DataEditingException {
-        userService.updatePassword(userUpdatePasswordRequestDto, authentication.getName());
+                                          @AuthenticationPrincipal AuthenticatedUser user) {
+        return passwordHashingExecutor.submit(() -> {
+            userService.updatePassword(userUpdatePasswordRequestDto, user);
+            return null;
+        });
+    }
+
+    @PostMapping("/import")
+    @Operation(summary = "Import users from NDJSON or CSV")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> importUsers(
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) throws InvalidParameterException {
+        DataFormat dataFormat = DataFormat.of(format);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(outputStream -> importService.importUsers(dataFormat,
+                        request.getInputStream(), outputStream));
     }
 }
@@ -0,0 +1,25 @@
+package project.dto;
+
+import java.util.Locale;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import project.exception.InvalidParameterException;
+
+@Getter
+@RequiredArgsConstructor
+public enum DataFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static DataFormat of(String format) throws InvalidParameterException {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Unsupported data format: " + format);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package project.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportEventDto {
+    private Type type;
+    private Long line;
+    private String message;
+    private Long processed;
+    private Long imported;
+    private Long failed;
+
+    public enum Type {
+        ERROR,
+        PROGRESS,
+        SUMMARY
+    }
+}
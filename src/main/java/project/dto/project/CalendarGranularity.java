@@ -0,0 +1,38 @@
+package project.dto.project;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Locale;
+import lombok.RequiredArgsConstructor;
+import project.exception.InvalidParameterException;
+
+@RequiredArgsConstructor
+public enum CalendarGranularity {
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS);
+
+    private final ChronoUnit unit;
+
+    public static CalendarGranularity of(String granularity) throws InvalidParameterException {
+        try {
+            return valueOf(granularity.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Unsupported calendar granularity: "
+                    + granularity);
+        }
+    }
+
+    public LocalDate getBucketStart(LocalDate date) {
+        return this == WEEK ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date;
+    }
+
+    public int getBucketIndex(LocalDate origin, LocalDate date) {
+        return (int) unit.between(origin, getBucketStart(date));
+    }
+
+    public LocalDate getBucketDate(LocalDate origin, int index) {
+        return origin.plus(index, unit);
+    }
+}
@@ -0,0 +1,20 @@
+package project.dto.project;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class ProjectBatchItemResponseDto {
+    private Long id;
+    private Result result;
+    private ProjectResponseDto project;
+
+    public enum Result {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND,
+        FORBIDDEN
+    }
+}
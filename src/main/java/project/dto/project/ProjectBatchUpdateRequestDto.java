@@ -0,0 +1,16 @@
+package project.dto.project;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class ProjectBatchUpdateRequestDto {
+    @NotEmpty
+    @Size(max = 500)
+    private List<@Valid ProjectUpdateItemDto> projects;
+}
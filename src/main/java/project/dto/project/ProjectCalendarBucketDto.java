@@ -0,0 +1,14 @@
+package project.dto.project;
+
+import java.time.LocalDate;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class ProjectCalendarBucketDto {
+    private LocalDate date;
+    private long active;
+    private long starting;
+    private long ending;
+}
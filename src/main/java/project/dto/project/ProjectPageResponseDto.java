@@ -0,0 +1,13 @@
+package project.dto.project;
+
+import java.util.List;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class ProjectPageResponseDto {
+    private List<ProjectResponseDto> content;
+    private String nextCursor;
+    private boolean hasMore;
+}
@@ -14,4 +14,5 @@ public class ProjectResponseDto {
     private LocalDate endDate;
     private Long userId;
     private String status;
+    private Long version;
 }
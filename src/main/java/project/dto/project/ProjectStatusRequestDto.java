@@ -0,0 +1,13 @@
+package project.dto.project;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+import project.model.Project;
+import project.validation.annotation.EnumValueCheck;
+
+@Data
+@Accessors(chain = true)
+public class ProjectStatusRequestDto {
+    @EnumValueCheck(Project.Status.class)
+    private String status;
+}
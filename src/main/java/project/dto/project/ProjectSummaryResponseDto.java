@@ -0,0 +1,13 @@
+package project.dto.project;
+
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class ProjectSummaryResponseDto {
+    private long initiated;
+    private long inProgress;
+    private long completed;
+    private long total;
+}
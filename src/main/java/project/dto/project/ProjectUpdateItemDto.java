@@ -0,0 +1,16 @@
+package project.dto.project;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Data
+@Accessors(chain = true)
+public class ProjectUpdateItemDto {
+    @NotNull
+    private Long id;
+    @NotNull
+    @Valid
+    private ProjectRequestDto project;
+}
@@ -45,6 +45,29 @@ public class CustomGlobalExceptionHandler extends ResponseEntityExceptionHandler
         String message = ex.getMessage();
         return new ResponseEntity<>(message, HttpStatus.FORBIDDEN);
     }
+
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<Object> handleServiceOverloadedException(
+            ServiceOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                       .header(HttpHeaders.RETRY_AFTER,
+                               String.valueOf(ex.getRetryAfterSeconds()))
+                       .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(
+            PreconditionFailedException ex) {
+        return new ResponseEntity<>(ex.getMessage(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<Object> handleTooManyRequestsException(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                       .header(HttpHeaders.RETRY_AFTER,
+                               String.valueOf(ex.getRetryAfterSeconds()))
+                       .body(ex.getMessage());
+    }
     
     private String getErrors(ObjectError e) {
         if (e instanceof FieldError) {
@@ -0,0 +1,7 @@
+package project.exception;
+
+public class InvalidParameterException extends CustomException {
+    public InvalidParameterException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package project.exception;
+
+public class PreconditionFailedException extends CustomRuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,13 @@
+package project.exception;
+
+import lombok.Getter;
+
+@Getter
+public class ServiceOverloadedException extends CustomRuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
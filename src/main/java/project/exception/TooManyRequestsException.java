@@ -0,0 +1,13 @@
+package project.exception;
+
+import lombok.Getter;
+
+@Getter
+public class TooManyRequestsException extends CustomRuntimeException {
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,159 @@
+package project.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.model.Project;
+import project.notification.Mail;
+import project.notification.MailQueue;
+import project.repository.ProjectRepository;
+import project.repository.UserRepository;
+import project.repository.projection.OverdueProjectView;
+import project.repository.projection.UserContactView;
+
+@Component
+@Log4j2
+public class OverdueProjectJob {
+    private static final List<Project.Status> OVERDUE_STATUSES = List.of(
+            Project.Status.INITIATED, Project.Status.IN_PROGRESS);
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final MailQueue mailQueue;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Clock clock;
+    private final Counter scanned;
+    private final Counter digests;
+    private final Timer runs;
+
+    @Autowired
+    public OverdueProjectJob(ProjectRepository projectRepository,
+                             UserRepository userRepository,
+                             MailQueue mailQueue,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${projects.overdue.chunk-size}") int chunkSize,
+                             MeterRegistry meterRegistry) {
+        this(projectRepository, userRepository, mailQueue, transactionTemplate, chunkSize,
+                meterRegistry, Clock.systemDefaultZone());
+    }
+
+    public OverdueProjectJob(ProjectRepository projectRepository,
+                             UserRepository userRepository,
+                             MailQueue mailQueue,
+                             TransactionTemplate transactionTemplate,
+                             int chunkSize, MeterRegistry meterRegistry, Clock clock) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.mailQueue = mailQueue;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        scanned = Counter.builder("projects.overdue.scanned")
+                .register(meterRegistry);
+        digests = Counter.builder("projects.overdue.digests")
+                .register(meterRegistry);
+        runs = Timer.builder("projects.overdue.scan.runs")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Walks the overdue projects by keyset and claims their owners with SKIP LOCKED,
+     * stamping today's date in the same transaction, so every node can run the job and
+     * each owner gets one digest a day.
+     */
+    @Scheduled(cron = "${projects.overdue.cron}")
+    public void notifyOverdueProjects() {
+        LocalDate today = LocalDate.now(clock);
+        Limit limit = Limit.of(chunkSize);
+        Timer.Sample sample = Timer.start();
+        int queued = 0;
+        try {
+            for (Project.Status status : OVERDUE_STATUSES) {
+                List<OverdueProjectView> chunk = projectRepository.findFirstOverdue(status,
+                        today, limit);
+                while (true) {
+                    scanned.increment(chunk.size());
+                    queued += queueDigests(chunk, today);
+                    if (chunk.size() < chunkSize) {
+                        break;
+                    }
+                    OverdueProjectView last = chunk.get(chunk.size() - 1);
+                    chunk = projectRepository.findOverdueAfter(status, today,
+                            last.getEndDate(), last.getId(), limit);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Interrupted while queueing overdue project digests");
+        } finally {
+            sample.stop(runs);
+        }
+        if (queued > 0) {
+            log.info("Queued {} overdue project digests", queued);
+        }
+    }
+
+    private int queueDigests(List<OverdueProjectView> chunk, LocalDate today)
+            throws InterruptedException {
+        Set<Long> ownerIds = chunk.stream()
+                .map(OverdueProjectView::getUserId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        if (ownerIds.isEmpty()) {
+            return 0;
+        }
+        List<Mail> mails = transactionTemplate.execute(status ->
+                claimDigests(ownerIds, today));
+        for (Mail mail : mails) {
+            mailQueue.submit(mail);
+            digests.increment();
+        }
+        return mails.size();
+    }
+
+    private List<Mail> claimDigests(Set<Long> ownerIds, LocalDate today) {
+        List<Long> claimedIds = userRepository.lockOwnersNotNotifiedOn(ownerIds, today);
+        if (claimedIds.isEmpty()) {
+            return List.of();
+        }
+        userRepository.markOverdueNotified(claimedIds, today);
+        Map<Long, List<OverdueProjectView>> projectsByOwner = projectRepository
+                .findOverdueByUserIdIn(OVERDUE_STATUSES, today, claimedIds).stream()
+                .collect(Collectors.groupingBy(OverdueProjectView::getUserId));
+        List<Mail> mails = new ArrayList<>(claimedIds.size());
+        for (UserContactView owner : userRepository.findContactsByIdIn(claimedIds)) {
+            List<OverdueProjectView> ownerProjects = projectsByOwner.get(owner.getId());
+            if (ownerProjects != null) {
+                mails.add(createDigest(owner, ownerProjects));
+            }
+        }
+        return mails;
+    }
+
+    private Mail createDigest(UserContactView owner, List<OverdueProjectView> projects) {
+        StringBuilder text = new StringBuilder("Hello, ")
+                .append(owner.getUsername())
+                .append("!\n\nThe following projects are past their end date:\n");
+        projects.forEach(project -> text.append("- ")
+                .append(project.getName())
+                .append(" (ended ")
+                .append(project.getEndDate())
+                .append(")\n"));
+        return new Mail(owner.getEmail(), "Overdue projects: " + projects.size(),
+                text.toString());
+    }
+}
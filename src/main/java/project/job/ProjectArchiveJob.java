@@ -0,0 +1,132 @@
+package project.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.repository.ArchivedProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
+import project.repository.UserRepository;
+import project.repository.projection.ProjectOwnerView;
+
+@Component
+@Log4j2
+public class ProjectArchiveJob {
+    private final ArchivedProjectRepository archivedProjectRepository;
+    private final UserRepository userRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Period completedRetention;
+    private final Clock clock;
+    private final Counter archivedDeleted;
+    private final Counter archivedCompleted;
+
+    @Autowired
+    public ProjectArchiveJob(ArchivedProjectRepository archivedProjectRepository,
+                             UserRepository userRepository,
+                             ProjectStatusCounterRepository projectStatusCounterRepository,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${projects.archive.chunk-size}") int chunkSize,
+                             @Value("${projects.archive.pause}") Duration pause,
+                             @Value("${projects.archive.completed-retention}")
+                             Period completedRetention,
+                             MeterRegistry meterRegistry) {
+        this(archivedProjectRepository, userRepository, projectStatusCounterRepository,
+                transactionTemplate, chunkSize, pause, completedRetention, meterRegistry,
+                Clock.systemDefaultZone());
+    }
+
+    public ProjectArchiveJob(ArchivedProjectRepository archivedProjectRepository,
+                             UserRepository userRepository,
+                             ProjectStatusCounterRepository projectStatusCounterRepository,
+                             TransactionTemplate transactionTemplate,
+                             int chunkSize, Duration pause, Period completedRetention,
+                             MeterRegistry meterRegistry, Clock clock) {
+        this.archivedProjectRepository = archivedProjectRepository;
+        this.userRepository = userRepository;
+        this.projectStatusCounterRepository = projectStatusCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.completedRetention = completedRetention;
+        this.clock = clock;
+        archivedDeleted = Counter.builder("projects.archived")
+                .tag("reason", "deleted")
+                .register(meterRegistry);
+        archivedCompleted = Counter.builder("projects.archived")
+                .tag("reason", "completed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${projects.archive.interval}",
+            initialDelayString = "${projects.archive.interval}")
+    public void archiveProjects() {
+        LocalDate cutoff = LocalDate.now(clock).minus(completedRetention);
+        long deleted = archiveAll(() -> archivedProjectRepository.lockDeleted(chunkSize),
+                false, archivedDeleted);
+        long completed = archiveAll(() -> archivedProjectRepository
+                .lockCompletedEndedBefore(cutoff, chunkSize), true, archivedCompleted);
+        if (deleted + completed > 0) {
+            log.info("Archived {} deleted and {} completed projects", deleted, completed);
+        }
+    }
+
+    private long archiveAll(Supplier<List<ProjectOwnerView>> chunkLocker, boolean visible,
+                            Counter counter) {
+        long total = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status ->
+                    archiveChunk(chunkLocker.get(), visible));
+            total += chunk;
+            counter.increment(chunk);
+        } while (chunk == chunkSize && pause());
+        return total;
+    }
+
+    private int archiveChunk(List<ProjectOwnerView> projects, boolean visible) {
+        if (projects.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = projects.stream()
+                .map(ProjectOwnerView::getId)
+                .toList();
+        archivedProjectRepository.copyToArchive(ids);
+        archivedProjectRepository.deleteFromHotTable(ids);
+        if (visible) {
+            Map<Long, List<Long>> idsByOwner = projects.stream()
+                    .collect(Collectors.groupingBy(ProjectOwnerView::getUserId, TreeMap::new,
+                            Collectors.mapping(ProjectOwnerView::getId,
+                                    Collectors.toList())));
+            idsByOwner.forEach((ownerId, ownerIds) -> projectStatusCounterRepository.add(
+                    ownerId, 0, 0, -ownerIds.size()));
+            userRepository.incrementProjectsVersionByIdIn(idsByOwner.keySet());
+        }
+        return projects.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package project.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.repository.ProjectStatusCounterRepository;
+
+@Component
+@Log4j2
+public class ProjectStatusCounterReconciliationJob {
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Counter reconciled;
+
+    public ProjectStatusCounterReconciliationJob(
+            ProjectStatusCounterRepository projectStatusCounterRepository,
+            TransactionTemplate transactionTemplate,
+            @Value("${projects.counters.reconcile-chunk-size}") int chunkSize,
+            MeterRegistry meterRegistry) {
+        this.projectStatusCounterRepository = projectStatusCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        reconciled = Counter.builder("projects.counters.reconciled")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${projects.counters.reconcile-interval}",
+            initialDelayString = "${projects.counters.reconcile-interval}")
+    public void reconcileCounters() {
+        long lastUserId = 0;
+        long total = 0;
+        List<Long> userIds;
+        do {
+            userIds = projectStatusCounterRepository.findUserIdsAfter(lastUserId, chunkSize);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            Long fromUserId = userIds.get(0);
+            Long toUserId = userIds.get(userIds.size() - 1);
+            transactionTemplate.executeWithoutResult(status ->
+                    projectStatusCounterRepository.reconcile(fromUserId, toUserId));
+            reconciled.increment(userIds.size());
+            lastUserId = toUserId;
+            total += userIds.size();
+        } while (userIds.size() == chunkSize);
+        log.info("Reconciled project status counters of {} users", total);
+    }
+}
@@ -0,0 +1,100 @@
+package project.job;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.model.Project;
+import project.repository.ProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
+import project.repository.UserRepository;
+import project.repository.projection.ProjectOwnerView;
+
+@Component
+@Log4j2
+public class ProjectStatusJob {
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final Clock clock;
+    private final Counter advanced;
+    private final Timer runs;
+
+    @Autowired
+    public ProjectStatusJob(ProjectRepository projectRepository,
+                            UserRepository userRepository,
+                            ProjectStatusCounterRepository projectStatusCounterRepository,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${projects.auto-status.chunk-size}") int chunkSize,
+                            MeterRegistry meterRegistry) {
+        this(projectRepository, userRepository, projectStatusCounterRepository,
+                transactionTemplate, chunkSize, meterRegistry, Clock.systemDefaultZone());
+    }
+
+    public ProjectStatusJob(ProjectRepository projectRepository,
+                            UserRepository userRepository,
+                            ProjectStatusCounterRepository projectStatusCounterRepository,
+                            TransactionTemplate transactionTemplate,
+                            int chunkSize, MeterRegistry meterRegistry, Clock clock) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectStatusCounterRepository = projectStatusCounterRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        advanced = Counter.builder("projects.status.advanced")
+                .register(meterRegistry);
+        runs = Timer.builder("projects.status.advance.runs")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${projects.auto-status.interval}",
+            initialDelayString = "${projects.auto-status.interval}")
+    public void advanceStartedProjects() {
+        LocalDate today = LocalDate.now(clock);
+        long total = runs.record(() -> {
+            long count = 0;
+            int chunk;
+            do {
+                chunk = transactionTemplate.execute(status -> advanceChunk(today));
+                count += chunk;
+            } while (chunk == chunkSize);
+            return count;
+        });
+        if (total > 0) {
+            log.info("Moved {} started projects to {}", total, Project.Status.IN_PROGRESS);
+        }
+    }
+
+    private int advanceChunk(LocalDate today) {
+        List<ProjectOwnerView> projects = projectRepository.lockInitiatedStartedBy(today,
+                chunkSize);
+        if (projects.isEmpty()) {
+            return 0;
+        }
+        Map<Long, List<Long>> idsByOwner = projects.stream()
+                .collect(Collectors.groupingBy(ProjectOwnerView::getUserId, TreeMap::new,
+                        Collectors.mapping(ProjectOwnerView::getId, Collectors.toList())));
+        projectRepository.updateStatusByIdIn(projects.stream()
+                .map(ProjectOwnerView::getId)
+                .toList(), Project.Status.IN_PROGRESS);
+        idsByOwner.forEach((ownerId, ids) -> projectStatusCounterRepository.add(ownerId,
+                -ids.size(), ids.size(), 0));
+        userRepository.incrementProjectsVersionByIdIn(idsByOwner.keySet());
+        advanced.increment(projects.size());
+        return projects.size();
+    }
+}
@@ -5,12 +5,21 @@ import org.mapstruct.Mapping;
 import project.config.MapperConfig;
 import project.dto.project.ProjectRequestDto;
 import project.dto.project.ProjectResponseDto;
+import project.model.ArchivedProject;
 import project.model.Project;
+import project.repository.projection.ProjectView;
 
 @Mapper(config = MapperConfig.class)
 public interface ProjectMapper {
+    @Mapping(target = "statusRank", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Project toModel(ProjectRequestDto requestDto);
 
     @Mapping(source = "user.id", target = "userId")
     ProjectResponseDto toDto(Project project);
+
+    ProjectResponseDto toDto(ProjectView projectView);
+
+    @Mapping(target = "version", ignore = true)
+    ProjectResponseDto toDto(ArchivedProject archivedProject);
 }
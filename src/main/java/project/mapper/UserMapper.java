@@ -1,6 +1,7 @@
 package project.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import project.config.MapperConfig;
 import project.dto.user.request.UserRegistrationRequestDto;
 import project.dto.user.request.UserUpdatePersonalInfoRequestDto;
@@ -10,8 +11,12 @@ import project.model.User;
 
 @Mapper(config = MapperConfig.class)
 public interface UserMapper {
+    @Mapping(target = "tokenVersion", ignore = true)
+    @Mapping(target = "projectsVersion", ignore = true)
     User toModel(UserRegistrationRequestDto requestDto);
 
+    @Mapping(target = "tokenVersion", ignore = true)
+    @Mapping(target = "projectsVersion", ignore = true)
     User toModel(UserUpdatePersonalInfoRequestDto userUpdatePersonalInfoRequestDto);
     
     UserResponseDto toDto(User user);
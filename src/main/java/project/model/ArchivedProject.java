@@ -0,0 +1,39 @@
+package project.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.hibernate.annotations.Immutable;
+
+@Entity
+@Immutable
+@Table(name = "projects_archive")
+@Data
+@Accessors(chain = true)
+public class ArchivedProject {
+    @Id
+    private Long id;
+    @Column(nullable = false)
+    private String name;
+    private String description;
+    @Column(nullable = false)
+    private LocalDate startDate;
+    @Column(nullable = false)
+    private LocalDate endDate;
+    @Column(nullable = false)
+    private Long userId;
+    @Column(nullable = false, columnDefinition = "VARCHAR")
+    @Enumerated(EnumType.STRING)
+    private Project.Status status;
+    @Column(nullable = false)
+    private boolean isDeleted;
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -4,12 +4,15 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import java.time.LocalDate;
 import lombok.Data;
 import lombok.ToString;
@@ -21,11 +24,14 @@ import org.hibernate.annotations.SQLRestriction;
 @Table(name = "projects")
 @Data
 @Accessors(chain = true)
-@SQLDelete(sql = "UPDATE projects SET is_deleted = true WHERE id = ?")
+@SQLDelete(sql = "UPDATE projects SET is_deleted = true, version = version + 1 "
+        + "WHERE id = ? AND version = ?")
 @SQLRestriction("is_deleted = false")
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "project_id")
+    @TableGenerator(name = "project_id", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "projects", allocationSize = 50)
     private Long id;
     @Column(nullable = false)
     private String name;
@@ -35,18 +41,30 @@ public class Project {
     @Column(nullable = false)
     private LocalDate endDate;
     @ToString.Exclude
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
     @Column(nullable = false, columnDefinition = "VARCHAR")
     @Enumerated(EnumType.STRING)
     private Status status = Status.INITIATED;
+    @Column(insertable = false, updatable = false)
+    private Integer statusRank;
     @Column(nullable = false)
     private boolean isDeleted;
+    @Version
+    private Long version;
 
     public enum Status {
         INITIATED,
         IN_PROGRESS,
-        COMPLETED
+        COMPLETED;
+
+        public boolean canTransitionTo(Status status) {
+            return switch (this) {
+                case INITIATED -> status == IN_PROGRESS;
+                case IN_PROGRESS -> status == COMPLETED;
+                case COMPLETED -> status == IN_PROGRESS;
+            };
+        }
     }
 }
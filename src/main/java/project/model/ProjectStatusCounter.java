@@ -0,0 +1,23 @@
+package project.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+@Entity
+@Table(name = "project_status_counters")
+@Data
+@Accessors(chain = true)
+public class ProjectStatusCounter {
+    @Id
+    private Long userId;
+    @Column(nullable = false)
+    private long initiated;
+    @Column(nullable = false)
+    private long inProgress;
+    @Column(nullable = false)
+    private long completed;
+}
@@ -8,6 +8,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import java.util.Collection;
 import java.util.List;
 import lombok.Data;
@@ -30,7 +31,9 @@ import org.springframework.security.core.userdetails.UserDetails;
 @SQLRestriction("is_deleted = false")
 public class User implements UserDetails {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id")
+    @TableGenerator(name = "user_id", table = "id_generators", pkColumnName = "name",
+            valueColumnName = "next_val", pkColumnValue = "users", allocationSize = 50)
     private Long id;
     @Column(unique = true, nullable = false)
     private String username;
@@ -49,7 +52,25 @@ public class User implements UserDetails {
     private Role role = Role.USER;
     @Column(nullable = false)
     private boolean isDeleted = false;
+    @Column(nullable = false)
+    private int tokenVersion;
+    @Column(insertable = false, updatable = false)
+    private long projectsVersion;
     
+    public User copy() {
+        return new User()
+                .setId(id)
+                .setUsername(username)
+                .setEmail(email)
+                .setPassword(password)
+                .setFirstName(firstName)
+                .setLastName(lastName)
+                .setRole(role)
+                .setDeleted(isDeleted)
+                .setTokenVersion(tokenVersion)
+                .setProjectsVersion(projectsVersion);
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + role));
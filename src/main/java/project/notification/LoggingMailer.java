@@ -0,0 +1,15 @@
+package project.notification;
+
+import lombok.extern.log4j.Log4j2;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@Log4j2
+@ConditionalOnProperty(name = "notifications.mailer", havingValue = "log", matchIfMissing = true)
+public class LoggingMailer implements Mailer {
+    @Override
+    public void send(Mail mail) {
+        log.info("Mail to {} with subject '{}':\n{}", mail.to(), mail.subject(), mail.text());
+    }
+}
@@ -0,0 +1,4 @@
+package project.notification;
+
+public record Mail(String to, String subject, String text) {
+}
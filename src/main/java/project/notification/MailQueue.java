@@ -0,0 +1,104 @@
+package project.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+@Log4j2
+public class MailQueue {
+    private final Mailer mailer;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore permits;
+    private final int maxAttempts;
+    private final long retryDelay;
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter failed;
+
+    public MailQueue(Mailer mailer,
+                     @Value("${notifications.mail.pool-size}") int poolSize,
+                     @Value("${notifications.mail.queue-capacity}") int queueCapacity,
+                     @Value("${notifications.mail.max-attempts}") int maxAttempts,
+                     @Value("${notifications.mail.retry-delay}") Duration retryDelay,
+                     MeterRegistry meterRegistry) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.mailer = mailer;
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "mail-sender-" + threadNumber.incrementAndGet()),
+                new ThreadPoolExecutor.AbortPolicy());
+        permits = new Semaphore(queueCapacity);
+        this.maxAttempts = maxAttempts;
+        this.retryDelay = retryDelay.toMillis();
+        sent = Counter.builder("notifications.mail.sent")
+                .register(meterRegistry);
+        retried = Counter.builder("notifications.mail.retried")
+                .register(meterRegistry);
+        failed = Counter.builder("notifications.mail.failed")
+                .register(meterRegistry);
+        Gauge.builder("notifications.mail.queue.size", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<Void> submit(Mail mail) throws InterruptedException {
+        permits.acquire();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                deliver(mail);
+                future.complete(null);
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            } finally {
+                permits.release();
+            }
+        });
+        return future;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private void deliver(Mail mail) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                mailer.send(mail);
+                sent.increment();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt >= maxAttempts || !sleep(retryDelay << (attempt - 1))) {
+                    failed.increment();
+                    log.error("Failed to send mail to {} after {} attempts", mail.to(),
+                            attempt, e);
+                    throw e;
+                }
+                retried.increment();
+                log.warn("Failed to send mail to {}, retrying: {}", mail.to(), e.getMessage());
+            }
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package project.notification;
+
+public interface Mailer {
+    void send(Mail mail);
+}
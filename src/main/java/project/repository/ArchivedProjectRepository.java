@@ -0,0 +1,40 @@
+package project.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import project.model.ArchivedProject;
+import project.repository.projection.ProjectOwnerView;
+
+public interface ArchivedProjectRepository extends JpaRepository<ArchivedProject, Long> {
+    @Query("SELECT p FROM ArchivedProject p WHERE p.userId = ?1 AND p.isDeleted = false "
+            + "ORDER BY p.id DESC")
+    List<ArchivedProject> findAllByUserId(Long userId, Pageable pageable);
+
+    @Query(value = "SELECT p.id AS id, p.user_id AS userId FROM projects p "
+            + "WHERE p.is_deleted = true LIMIT ?1 FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ProjectOwnerView> lockDeleted(int limit);
+
+    @Query(value = "SELECT p.id AS id, p.user_id AS userId FROM projects p "
+            + "WHERE p.is_deleted = false AND p.status = 'COMPLETED' AND p.end_date < ?1 "
+            + "ORDER BY p.end_date, p.id LIMIT ?2 FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ProjectOwnerView> lockCompletedEndedBefore(LocalDate date, int limit);
+
+    @Modifying
+    @Query(value = "INSERT INTO projects_archive (id, name, description, start_date, "
+            + "end_date, user_id, status, is_deleted, archived_at) "
+            + "SELECT p.id, p.name, p.description, p.start_date, p.end_date, p.user_id, "
+            + "p.status, p.is_deleted, CURRENT_TIMESTAMP FROM projects p WHERE p.id IN ?1",
+            nativeQuery = true)
+    int copyToArchive(Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "DELETE FROM projects WHERE id IN ?1", nativeQuery = true)
+    int deleteFromHotTable(Collection<Long> ids);
+}
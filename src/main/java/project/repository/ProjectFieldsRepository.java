@@ -0,0 +1,15 @@
+package project.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.data.domain.Pageable;
+
+public interface ProjectFieldsRepository {
+    Set<String> SELECTABLE_FIELDS = Set.of("id", "name", "description", "startDate", "endDate",
+            "userId", "status", "version");
+
+    List<Map<String, Object>> findFieldsByUserId(Long userId, Collection<String> fields,
+                                                 Pageable pageable);
+}
@@ -0,0 +1,57 @@
+package project.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.data.domain.Pageable;
+import project.model.Project;
+
+public class ProjectFieldsRepositoryImpl implements ProjectFieldsRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(Long userId, Collection<String> fields,
+                                                        Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<Project> project = query.from(Project.class);
+        query.multiselect(fields.stream()
+                        .<Selection<?>>map(field -> getPath(project, field).alias(field))
+                        .toList())
+                .where(criteriaBuilder.equal(project.get("user").get("id"), userId))
+                .orderBy(criteriaBuilder.asc(project.get("statusRank")),
+                        criteriaBuilder.desc(project.get("id")));
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset())
+                    .setMaxResults(pageable.getPageSize());
+        }
+        return typedQuery.getResultStream()
+                .map(tuple -> toMap(tuple, fields))
+                .toList();
+    }
+
+    private Path<Object> getPath(Root<Project> project, String field) {
+        if (!SELECTABLE_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Field " + field + " cannot be selected");
+        }
+        return field.equals("userId") ? project.get("user").get("id") : project.get(field);
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach(field -> values.put(field, tuple.get(field)));
+        return values;
+    }
+}
@@ -0,0 +1,8 @@
+package project.repository;
+
+import java.util.Map;
+
+public interface ProjectPatchRepository {
+    int patchByIdAndUserId(Long id, Long userId, Map<String, Object> changes,
+                           Long expectedVersion);
+}
@@ -0,0 +1,39 @@
+package project.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import project.model.Project;
+
+public class ProjectPatchRepositoryImpl implements ProjectPatchRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int patchByIdAndUserId(Long id, Long userId, Map<String, Object> changes,
+                                  Long expectedVersion) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Project> update = criteriaBuilder.createCriteriaUpdate(Project.class);
+        Root<Project> project = update.from(Project.class);
+        changes.forEach(update::set);
+        update.set(project.<Long>get("version"),
+                criteriaBuilder.sum(project.<Long>get("version"), 1L));
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(criteriaBuilder.equal(project.get("id"), id));
+        predicates.add(criteriaBuilder.equal(project.get("user").get("id"), userId));
+        predicates.add(criteriaBuilder.isFalse(project.get("isDeleted")));
+        if (expectedVersion != null) {
+            predicates.add(criteriaBuilder.equal(project.get("version"), expectedVersion));
+        }
+        update.where(predicates.toArray(Predicate[]::new));
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+}
@@ -1,16 +1,134 @@
 package project.repository;
 
+import jakarta.persistence.QueryHint;
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import project.model.Project;
+import project.repository.projection.OverdueProjectView;
+import project.repository.projection.PeriodCountView;
+import project.repository.projection.ProjectOwnerView;
+import project.repository.projection.ProjectStatusView;
+import project.repository.projection.ProjectView;
 
-public interface ProjectRepository extends JpaRepository<Project, Long> {
-    @Query("FROM Project p WHERE p.user.id = ?1 ORDER BY CASE p.status "
-            + "WHEN 'INITIATED' THEN 1 "
-            + "WHEN 'IN_PROGRESS' THEN 2 "
-            + "WHEN 'COMPLETED' THEN 3 "
-            + "ELSE 4 END, p.id DESC")
-    List<Project> findAllByUserIdWithSorting(Long id, Pageable pageable);
+public interface ProjectRepository extends JpaRepository<Project, Long>, ProjectPatchRepository,
+        ProjectFieldsRepository {
+    String SELECT_VIEW = "SELECT p.id AS id, p.name AS name, p.description AS description, "
+            + "p.startDate AS startDate, p.endDate AS endDate, p.user.id AS userId, "
+            + "p.status AS status, p.statusRank AS statusRank, p.version AS version "
+            + "FROM Project p ";
+    String SELECT_OVERDUE = "SELECT p.id AS id, p.name AS name, p.endDate AS endDate, "
+            + "p.user.id AS userId FROM Project p WHERE p.endDate < ?2 ";
+
+    @Query(SELECT_VIEW + "WHERE p.user.id = ?1 ORDER BY p.statusRank, p.id DESC")
+    List<ProjectView> findAllByUserIdWithSorting(Long id, Pageable pageable);
+
+    @Query(SELECT_VIEW + "WHERE p.user.id = ?1 ORDER BY p.statusRank, p.id DESC")
+    List<ProjectView> findFirstPageByUserId(Long id, Limit limit);
+
+    @Query(SELECT_VIEW + "WHERE p.user.id = ?1 "
+            + "AND (p.statusRank > ?2 OR (p.statusRank = ?2 AND p.id < ?3)) "
+            + "ORDER BY p.statusRank, p.id DESC")
+    List<ProjectView> findPageByUserIdAfter(Long id, int statusRank, Long projectId,
+                                            Limit limit);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(SELECT_VIEW + "WHERE p.user.id = ?1 ORDER BY p.statusRank, p.id DESC")
+    Stream<ProjectView> streamAllByUserId(Long id);
+
+    @Query(SELECT_VIEW + "WHERE p.id = ?1 AND p.user.id = ?2")
+    Optional<ProjectView> findByIdAndUserId(Long id, Long userId);
+
+    @Query("SELECT p.version FROM Project p WHERE p.id = ?1 AND p.user.id = ?2")
+    Optional<Long> findVersionByIdAndUserId(Long id, Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET p.name = ?3, p.description = ?4, "
+            + "p.startDate = ?5, p.endDate = ?6, p.version = p.version + 1 "
+            + "WHERE p.id = ?1 AND p.user.id = ?2 AND p.isDeleted = false "
+            + "AND (?7 IS NULL OR p.version = ?7)")
+    int updateByIdAndUserId(Long id, Long userId, String name, String description,
+                            LocalDate startDate, LocalDate endDate, Long expectedVersion);
+
+    boolean existsByIdAndUserId(Long id, Long userId);
+
+    @Query(value = "SELECT p.id FROM projects p "
+            + "WHERE p.user_id = ?1 AND p.is_deleted = false "
+            + "AND MATCH (p.name, p.description) AGAINST (?2 IN NATURAL LANGUAGE MODE) "
+            + "ORDER BY MATCH (p.name, p.description) AGAINST (?2 IN NATURAL LANGUAGE MODE) DESC, "
+            + "p.id DESC LIMIT ?3 OFFSET ?4",
+            nativeQuery = true)
+    List<Long> searchIdsByUserId(Long userId, String query, int limit, long offset);
+
+    @Query(SELECT_VIEW + "WHERE p.id IN ?1")
+    List<ProjectView> findAllViewsByIdIn(Collection<Long> ids);
+
+    @Query("SELECT p.startDate AS startDate, p.endDate AS endDate, COUNT(p) AS count "
+            + "FROM Project p WHERE p.user.id = ?1 AND p.startDate <= ?3 AND p.endDate >= ?2 "
+            + "GROUP BY p.startDate, p.endDate")
+    List<PeriodCountView> countPeriodsByUserIdOverlapping(Long userId, LocalDate from,
+                                                          LocalDate to);
+
+    @Query(value = "SELECT p.id AS id, p.status AS status FROM projects p "
+            + "WHERE p.id IN ?1 AND p.user_id = ?2 AND p.is_deleted = false FOR UPDATE",
+            nativeQuery = true)
+    List<ProjectStatusView> lockStatusesByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET p.status = ?4, p.version = p.version + 1 "
+            + "WHERE p.id = ?1 AND p.user.id = ?2 AND p.isDeleted = false AND p.status = ?3")
+    int updateStatusByIdAndUserId(Long id, Long userId, Project.Status currentStatus,
+                                  Project.Status status);
+
+    @Query(value = "SELECT p.id AS id, p.user_id AS userId FROM projects p "
+            + "WHERE p.status = 'INITIATED' AND p.is_deleted = false AND p.start_date <= ?1 "
+            + "ORDER BY p.start_date, p.id LIMIT ?2 FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<ProjectOwnerView> lockInitiatedStartedBy(LocalDate date, int limit);
+
+    @Query(SELECT_OVERDUE + "AND p.status = ?1 ORDER BY p.endDate, p.id")
+    List<OverdueProjectView> findFirstOverdue(Project.Status status, LocalDate today,
+                                              Limit limit);
+
+    @Query(SELECT_OVERDUE + "AND p.status = ?1 "
+            + "AND (p.endDate > ?3 OR (p.endDate = ?3 AND p.id > ?4)) "
+            + "ORDER BY p.endDate, p.id")
+    List<OverdueProjectView> findOverdueAfter(Project.Status status, LocalDate today,
+                                              LocalDate endDate, Long projectId, Limit limit);
+
+    @Query(SELECT_OVERDUE + "AND p.status IN ?1 AND p.user.id IN ?3 "
+            + "ORDER BY p.user.id, p.endDate, p.id")
+    List<OverdueProjectView> findOverdueByUserIdIn(Collection<Project.Status> statuses,
+                                                   LocalDate today, Collection<Long> userIds);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET p.status = ?2, p.version = p.version + 1 WHERE p.id IN ?1")
+    int updateStatusByIdIn(Collection<Long> ids, Project.Status status);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET p.isDeleted = true, p.version = p.version + 1 "
+            + "WHERE p.id = ?1 AND p.user.id = ?2 AND p.isDeleted = false")
+    int softDeleteByIdAndUserId(Long id, Long userId);
+
+    List<Project> findAllByIdInAndUserId(Collection<Long> ids, Long userId);
+
+    @Query("SELECT p.id FROM Project p WHERE p.id IN ?1")
+    List<Long> findExistingIds(Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Project p SET p.isDeleted = true, p.version = p.version + 1 "
+            + "WHERE p.id IN ?1 AND p.isDeleted = false")
+    int softDeleteAllByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,76 @@
+package project.repository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import project.model.Project;
+import project.model.ProjectStatusCounter;
+import project.repository.projection.StatusCounterView;
+
+public interface ProjectStatusCounterRepository
+        extends JpaRepository<ProjectStatusCounter, Long> {
+    @Modifying
+    @Query(value = "INSERT INTO project_status_counters "
+            + "(user_id, initiated, in_progress, completed) VALUES (?1, ?2, ?3, ?4) AS delta "
+            + "ON DUPLICATE KEY UPDATE "
+            + "initiated = project_status_counters.initiated + delta.initiated, "
+            + "in_progress = project_status_counters.in_progress + delta.in_progress, "
+            + "completed = project_status_counters.completed + delta.completed",
+            nativeQuery = true)
+    int add(Long userId, long initiated, long inProgress, long completed);
+
+    default void add(Long userId, Project.Status status, long delta) {
+        switch (status) {
+            case INITIATED -> add(userId, delta, 0, 0);
+            case IN_PROGRESS -> add(userId, 0, delta, 0);
+            case COMPLETED -> add(userId, 0, 0, delta);
+            default -> throw new IllegalArgumentException("Unknown status " + status);
+        }
+    }
+
+    @Query(value = "SELECT user_id AS userId, initiated, in_progress AS inProgress, completed "
+            + "FROM project_status_counters WHERE user_id >= ?1 AND user_id <= ?2 FOR UPDATE",
+            nativeQuery = true)
+    List<StatusCounterView> lockRange(Long fromUserId, Long toUserId);
+
+    @Query(value = "SELECT u.id AS userId, "
+            + "COUNT(CASE WHEN p.status = 'INITIATED' THEN 1 END) AS initiated, "
+            + "COUNT(CASE WHEN p.status = 'IN_PROGRESS' THEN 1 END) AS inProgress, "
+            + "COUNT(CASE WHEN p.status = 'COMPLETED' THEN 1 END) AS completed "
+            + "FROM users u LEFT JOIN projects p ON p.user_id = u.id AND p.is_deleted = false "
+            + "WHERE u.id >= ?1 AND u.id <= ?2 GROUP BY u.id",
+            nativeQuery = true)
+    List<StatusCounterView> countActual(Long fromUserId, Long toUserId);
+
+    /**
+     * Locks the counters before counting, so in-flight deltas either land before the count
+     * or wait and apply on top of it. Drift is written as a delta for the same reason.
+     */
+    default int reconcile(Long fromUserId, Long toUserId) {
+        Map<Long, StatusCounterView> counters = lockRange(fromUserId, toUserId).stream()
+                .collect(Collectors.toMap(StatusCounterView::getUserId, Function.identity()));
+        int drifted = 0;
+        for (StatusCounterView actual : countActual(fromUserId, toUserId)) {
+            StatusCounterView counter = counters.get(actual.getUserId());
+            long initiated = actual.getInitiated()
+                    - (counter == null ? 0 : counter.getInitiated());
+            long inProgress = actual.getInProgress()
+                    - (counter == null ? 0 : counter.getInProgress());
+            long completed = actual.getCompleted()
+                    - (counter == null ? 0 : counter.getCompleted());
+            if (initiated != 0 || inProgress != 0 || completed != 0) {
+                add(actual.getUserId(), initiated, inProgress, completed);
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    @Query(value = "SELECT id FROM users WHERE id > ?1 ORDER BY id LIMIT ?2",
+            nativeQuery = true)
+    List<Long> findUserIdsAfter(Long userId, int limit);
+}
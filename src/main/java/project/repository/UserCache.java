@@ -0,0 +1,69 @@
+package project.repository;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import project.config.CacheConfig;
+import project.model.User;
+import project.util.TransactionUtil;
+
+@RequiredArgsConstructor
+@Component
+public class UserCache {
+    private final CacheManager cacheManager;
+    private final UserRepository userRepository;
+
+    public Optional<User> findById(Long id) {
+        return find(CacheConfig.USERS_BY_ID, id, key -> userRepository.findById(id));
+    }
+
+    public Optional<User> findByUsername(String username) {
+        return find(CacheConfig.USERS_BY_USERNAME, normalize(username),
+                key -> userRepository.findByUsername(username));
+    }
+
+    public Optional<User> findByEmail(String email) {
+        return find(CacheConfig.USERS_BY_EMAIL, normalize(email),
+                key -> userRepository.findByEmail(email));
+    }
+
+    public void evict(User user) {
+        Long id = user.getId();
+        String username = user.getUsername();
+        String email = user.getEmail();
+        TransactionUtil.afterCompletion(() -> {
+            evictKey(CacheConfig.USERS_BY_ID, id);
+            evictKey(CacheConfig.USERS_BY_USERNAME, normalize(username));
+            evictKey(CacheConfig.USERS_BY_EMAIL, normalize(email));
+        });
+    }
+
+    private <K> Optional<User> find(String cacheName, K key,
+                                    Function<K, Optional<User>> loader) {
+        Cache cache = cacheManager.getCache(cacheName);
+        User cached = cache == null ? null : cache.get(key, User.class);
+        if (cached != null) {
+            return Optional.of(cached.copy());
+        }
+        Optional<User> user = loader.apply(key);
+        if (cache != null) {
+            user.ifPresent(loaded -> cache.put(key, loaded.copy()));
+        }
+        return user;
+    }
+
+    private void evictKey(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    private String normalize(String value) {
+        return value == null ? null : value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,13 @@
+package project.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public interface UserFieldsRepository {
+    Set<String> SELECTABLE_FIELDS = Set.of("id", "username", "email", "firstName", "lastName",
+            "role");
+
+    Optional<Map<String, Object>> findFieldsById(Long id, Collection<String> fields);
+}
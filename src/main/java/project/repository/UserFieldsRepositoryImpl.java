@@ -0,0 +1,47 @@
+package project.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import project.model.User;
+
+public class UserFieldsRepositoryImpl implements UserFieldsRepository {
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Map<String, Object>> findFieldsById(Long id, Collection<String> fields) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<User> user = query.from(User.class);
+        query.multiselect(fields.stream()
+                        .<Selection<?>>map(field -> getPath(user, field).alias(field))
+                        .toList())
+                .where(criteriaBuilder.equal(user.get("id"), id));
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(tuple -> toMap(tuple, fields));
+    }
+
+    private Path<Object> getPath(Root<User> user, String field) {
+        if (!SELECTABLE_FIELDS.contains(field)) {
+            throw new IllegalArgumentException("Field " + field + " cannot be selected");
+        }
+        return user.get(field);
+    }
+
+    private Map<String, Object> toMap(Tuple tuple, Collection<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        fields.forEach(field -> values.put(field, tuple.get(field)));
+        return values;
+    }
+}
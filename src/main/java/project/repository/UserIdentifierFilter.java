@@ -0,0 +1,52 @@
+package project.repository;
+
+import java.util.Locale;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import project.util.BloomFilter;
+
+@Component
+@Log4j2
+public class UserIdentifierFilter {
+    private final UserRepository userRepository;
+    private final BloomFilter filter;
+    private volatile boolean ready;
+
+    public UserIdentifierFilter(UserRepository userRepository,
+                                @Value("${users.bloom-filter.expected-insertions}")
+                                long expectedInsertions,
+                                @Value("${users.bloom-filter.false-positive-probability}")
+                                double falsePositiveProbability) {
+        this.userRepository = userRepository;
+        filter = new BloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        userRepository.findAllUsernamesIncludingDeleted().forEach(this::put);
+        userRepository.findAllEmailsIncludingDeleted().forEach(this::put);
+        ready = true;
+        log.info("User identifier filter is seeded");
+    }
+
+    public boolean mightBeTaken(String username, String email) {
+        return !ready || filter.mightContain(normalize(username))
+                || filter.mightContain(normalize(email));
+    }
+
+    public void add(String username, String email) {
+        put(username);
+        put(email);
+    }
+
+    private void put(String value) {
+        filter.put(normalize(value));
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,15 +1,73 @@
 package project.repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import project.model.User;
+import project.repository.projection.UserContactView;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserFieldsRepository {
     Optional<User> findByUsername(String username);
 
     User getUserByUsername(String username);
     
     Optional<User> findByEmail(String email);
+
+    boolean existsByUsernameOrEmail(String username, String email);
+
+    @Query("SELECT COUNT(u) > 0 FROM User u "
+            + "WHERE (u.username = ?1 OR u.email = ?2) AND u.id <> ?3")
+    boolean existsByUsernameOrEmailAndIdNot(String username, String email, Long id);
+
+    @Query(value = "SELECT username FROM users", nativeQuery = true)
+    List<String> findAllUsernamesIncludingDeleted();
+
+    @Query(value = "SELECT email FROM users", nativeQuery = true)
+    List<String> findAllEmailsIncludingDeleted();
+
+    @Query(value = "SELECT username FROM users WHERE username IN ?1 "
+            + "UNION SELECT email FROM users WHERE email IN ?2", nativeQuery = true)
+    List<String> findTakenIdentifiersIncludingDeleted(Collection<String> usernames,
+                                                      Collection<String> emails);
+
+    @Query("SELECT u.id AS id, u.username AS username, u.email AS email FROM User u "
+            + "WHERE u.id IN ?1")
+    List<UserContactView> findContactsByIdIn(Collection<Long> ids);
+
+    @Query(value = "SELECT id FROM users WHERE id IN ?1 AND is_deleted = false "
+            + "AND (overdue_notified_on IS NULL OR overdue_notified_on < ?2) "
+            + "ORDER BY id FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<Long> lockOwnersNotNotifiedOn(Collection<Long> ids, LocalDate today);
+
+    @Modifying
+    @Query(value = "UPDATE users SET overdue_notified_on = ?2 WHERE id IN ?1",
+            nativeQuery = true)
+    int markOverdueNotified(Collection<Long> ids, LocalDate today);
+
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = ?1")
+    Optional<Integer> findTokenVersionById(Long id);
+
+    @Query("SELECT u.projectsVersion FROM User u WHERE u.id = ?1")
+    Optional<Long> findProjectsVersionById(Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.projectsVersion = u.projectsVersion + 1 WHERE u.id = ?1")
+    int incrementProjectsVersion(Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.projectsVersion = u.projectsVersion + 1 WHERE u.id IN ?1")
+    int incrementProjectsVersionByIdIn(Collection<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = ?3 WHERE u.id = ?1 AND u.password = ?2")
+    int updatePasswordHash(Long id, String currentHash, String newHash);
 }
@@ -0,0 +1,13 @@
+package project.repository.projection;
+
+import java.time.LocalDate;
+
+public interface OverdueProjectView {
+    Long getId();
+
+    String getName();
+
+    LocalDate getEndDate();
+
+    Long getUserId();
+}
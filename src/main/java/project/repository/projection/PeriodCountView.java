@@ -0,0 +1,11 @@
+package project.repository.projection;
+
+import java.time.LocalDate;
+
+public interface PeriodCountView {
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    Long getCount();
+}
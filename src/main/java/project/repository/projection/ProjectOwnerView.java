@@ -0,0 +1,7 @@
+package project.repository.projection;
+
+public interface ProjectOwnerView {
+    Long getId();
+
+    Long getUserId();
+}
@@ -0,0 +1,9 @@
+package project.repository.projection;
+
+import project.model.Project;
+
+public interface ProjectStatusView {
+    Long getId();
+
+    Project.Status getStatus();
+}
@@ -0,0 +1,24 @@
+package project.repository.projection;
+
+import java.time.LocalDate;
+import project.model.Project;
+
+public interface ProjectView {
+    Long getId();
+
+    String getName();
+
+    String getDescription();
+
+    LocalDate getStartDate();
+
+    LocalDate getEndDate();
+
+    Long getUserId();
+
+    Project.Status getStatus();
+
+    Integer getStatusRank();
+
+    Long getVersion();
+}
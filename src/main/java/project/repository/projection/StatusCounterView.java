@@ -0,0 +1,11 @@
+package project.repository.projection;
+
+public interface StatusCounterView {
+    Long getUserId();
+
+    Long getInitiated();
+
+    Long getInProgress();
+
+    Long getCompleted();
+}
@@ -0,0 +1,9 @@
+package project.repository.projection;
+
+public interface UserContactView {
+    Long getId();
+
+    String getUsername();
+
+    String getEmail();
+}
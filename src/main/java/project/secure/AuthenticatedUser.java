@@ -0,0 +1,25 @@
+package project.secure;
+
+import java.security.Principal;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import project.model.User;
+
+public record AuthenticatedUser(Long id, String username, User.Role role, int tokenVersion)
+        implements Principal {
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getUsername(),
+                user.getRole(), user.getTokenVersion());
+    }
+
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
@@ -2,9 +2,7 @@ package project.secure;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,8 +11,11 @@ import project.dto.user.request.UserRegistrationRequestDto;
 import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserTokenResponseDto;
 import project.exception.AuthenticationException;
+import project.exception.ServiceOverloadedException;
 import project.mapper.UserMapper;
 import project.model.User;
+import project.repository.UserCache;
+import project.repository.UserIdentifierFilter;
 import project.repository.UserRepository;
 
 @RequiredArgsConstructor
@@ -25,13 +26,14 @@ public class AuthenticationService {
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UserCache userCache;
+    private final UserIdentifierFilter userIdentifierFilter;
     
-    @Transactional
+    @Transactional(rollbackFor = AuthenticationException.class)
     public UserResponseDto register(UserRegistrationRequestDto requestDto,
                                     boolean isItAdmin) throws AuthenticationException {
-        if (userRepository.findByUsername(requestDto.getUsername()).isPresent()
-                    || userRepository.findByEmail(requestDto.getEmail()).isPresent()) {
+        if (isTaken(requestDto.getUsername(), requestDto.getEmail())) {
             throw new AuthenticationException("Unable to complete registration!");
         }
         User user = userMapper.toModel(requestDto);
@@ -39,7 +41,15 @@ public class AuthenticationService {
         if (isItAdmin) {
             user.setRole(User.Role.ADMIN);
         }
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Registration of user ({}) conflicted with an existing user",
+                    requestDto.getUsername());
+            throw new AuthenticationException("Unable to complete registration!");
+        }
+        userIdentifierFilter.add(savedUser.getUsername(), savedUser.getEmail());
         log.info("Registered new user {}", user);
         return userMapper.toDto(savedUser);
     }
@@ -48,18 +58,16 @@ public class AuthenticationService {
     public UserTokenResponseDto login(UserLoginRequestDto requestDto)
             throws AuthenticationException {
         User user = checkCredentials(requestDto);
-        final Authentication authentication = authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(user.getUsername(),
-                        requestDto.getPassword()));
-        String token = jwtUtil.generateToken(authentication.getName());
+        upgradePasswordHash(user, requestDto.getPassword());
+        String token = jwtUtil.generateToken(user);
         log.info("User ({}) logged in", user.getUsername());
         return new UserTokenResponseDto(token);
     }
     
     private User checkCredentials(UserLoginRequestDto requestDto) throws AuthenticationException {
         User user = (requestDto.getEmailOrUsername().contains("@")
-                             ? userRepository.findByEmail(requestDto.getEmailOrUsername())
-                             : userRepository.findByUsername(requestDto.getEmailOrUsername()))
+                             ? userCache.findByEmail(requestDto.getEmailOrUsername())
+                             : userCache.findByUsername(requestDto.getEmailOrUsername()))
                             .orElseThrow(() -> new AuthenticationException(
                                     "Invalid username or password"));
         if (passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
@@ -69,4 +77,27 @@ public class AuthenticationService {
                 user.getUsername());
         throw new AuthenticationException("Invalid username or password");
     }
+    
+    private boolean isTaken(String username, String email) {
+        return userIdentifierFilter.mightBeTaken(username, email)
+                && userRepository.existsByUsernameOrEmail(username, email);
+    }
+    
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            passwordHashingExecutor.submit(() -> {
+                int updated = userRepository.updatePasswordHash(user.getId(),
+                        user.getPassword(), passwordEncoder.encode(rawPassword));
+                userCache.evict(user);
+                return updated;
+            });
+            log.info("Scheduled password hash upgrade for user ({})", user.getUsername());
+        } catch (ServiceOverloadedException e) {
+            log.warn("Skipped password hash upgrade for user ({}), hashing pool is busy",
+                    user.getUsername());
+        }
+    }
 }
@@ -5,16 +5,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
-import project.repository.UserRepository;
+import project.repository.UserCache;
 
 @RequiredArgsConstructor
 @Component
 public class CustomUserDetailService implements UserDetailsService {
-    private final UserRepository userRepository;
+    private final UserCache userCache;
     
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username).orElseThrow(
+        return userCache.findByUsername(username).orElseThrow(
                 () -> new UsernameNotFoundException("Can`t find user by username " + username));
     }
 }
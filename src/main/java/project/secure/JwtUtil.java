@@ -1,58 +1,78 @@
 package project.secure;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.Date;
-import java.util.function.Function;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import project.model.User;
 
 @Component
 public class JwtUtil {
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String ROLE_CLAIM = "role";
+    private static final String TOKEN_VERSION_CLAIM = "ver";
+    private static final String INVALID_TOKEN_MESSAGE = "Expired or invalid JWT token";
     private final Key secret;
-    @Value("${jwt.expiration}")
-    private Long expiration;
+    private final JwtParser parser;
+    private final long expiration;
     
-    public JwtUtil(@Value("${jwt.secret}") String secretString) {
+    public JwtUtil(@Value("${jwt.secret}") String secretString,
+                   @Value("${jwt.expiration}") long expiration) {
         secret = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                         .setSigningKey(secret)
+                         .build();
+        this.expiration = expiration;
     }
     
-    public String generateToken(String username) {
+    public String generateToken(User user) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                       .setSubject(username)
-                       .setIssuedAt(new Date(System.currentTimeMillis()))
-                       .setExpiration(new Date(System.currentTimeMillis() + expiration))
+                       .setSubject(user.getUsername())
+                       .claim(USER_ID_CLAIM, user.getId())
+                       .claim(ROLE_CLAIM, user.getRole().name())
+                       .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
+                       .setIssuedAt(new Date(now))
+                       .setExpiration(new Date(now + expiration))
                        .signWith(secret)
                        .compact();
     }
     
-    public boolean isValidToken(String token) {
+    public Claims parseClaims(String token) {
         try {
-            Jws<Claims> claims = Jwts.parserBuilder()
-                                         .setSigningKey(secret)
-                                         .build()
-                                         .parseClaimsJws(token);
-            return !claims.getBody().getExpiration().before(new Date());
+            return parser.parseClaimsJws(token).getBody();
         } catch (JwtException | IllegalArgumentException e) {
-            throw new JwtException("Expired or invalid JWT token");
+            throw new JwtException(INVALID_TOKEN_MESSAGE);
         }
     }
     
-    public String getUsername(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+    public boolean isValidToken(String token) {
+        try {
+            parseClaims(token);
+            return true;
+        } catch (JwtException e) {
+            return false;
+        }
     }
     
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parserBuilder()
-                                      .setSigningKey(secret)
-                                      .build()
-                                      .parseClaimsJws(token)
-                                      .getBody();
-        return claimsResolver.apply(claims);
+    public AuthenticatedUser getAuthenticatedUser(Claims claims) {
+        Long id = claims.get(USER_ID_CLAIM, Long.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        if (id == null || claims.getSubject() == null || role == null || tokenVersion == null) {
+            throw new JwtException(INVALID_TOKEN_MESSAGE);
+        }
+        try {
+            return new AuthenticatedUser(id, claims.getSubject(), User.Role.valueOf(role),
+                    tokenVersion);
+        } catch (IllegalArgumentException e) {
+            throw new JwtException(INVALID_TOKEN_MESSAGE);
+        }
     }
 }
@@ -0,0 +1,178 @@
+package project.secure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import project.exception.TooManyRequestsException;
+
+@Component
+@Log4j2
+public class LoginThrottle {
+    private static final int STRIPES = 64;
+    private static final String ACCOUNT_PREFIX = "account:";
+    private static final String IP_PREFIX = "ip:";
+    private static final String REGISTRATION_PREFIX = "registration:";
+    private static final String REGISTRATION_IP_PREFIX = "registration-ip:";
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int freeAttempts;
+    private final long baseDelay;
+    private final long maxDelay;
+    private final long resetAfter;
+    private final Clock clock;
+    private final Counter throttledByAccount;
+    private final Counter throttledByIp;
+
+    @Autowired
+    public LoginThrottle(@Value("${login.throttle.free-attempts}") int freeAttempts,
+                         @Value("${login.throttle.base-delay}") Duration baseDelay,
+                         @Value("${login.throttle.max-delay}") Duration maxDelay,
+                         @Value("${login.throttle.reset-after}") Duration resetAfter,
+                         @Value("${login.throttle.max-entries}") int maxEntries,
+                         MeterRegistry meterRegistry) {
+        this(freeAttempts, baseDelay, maxDelay, resetAfter, maxEntries, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    public LoginThrottle(int freeAttempts, Duration baseDelay, Duration maxDelay,
+                         Duration resetAfter, int maxEntries, MeterRegistry meterRegistry,
+                         Clock clock) {
+        int stripeCapacity = Math.max(1, maxEntries / STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+        this.freeAttempts = freeAttempts;
+        this.baseDelay = baseDelay.toMillis();
+        this.maxDelay = maxDelay.toMillis();
+        this.resetAfter = resetAfter.toMillis();
+        this.clock = clock;
+        throttledByAccount = Counter.builder("auth.throttled")
+                .tag("scope", "account")
+                .register(meterRegistry);
+        throttledByIp = Counter.builder("auth.throttled")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+    }
+
+    public void check(String account, String clientIp) {
+        checkKeys(account, clientIp, List.of(ACCOUNT_PREFIX + normalize(account)),
+                IP_PREFIX + clientIp);
+    }
+
+    public void checkRegistration(String username, String email, String clientIp) {
+        checkKeys(username, clientIp, List.of(REGISTRATION_PREFIX + normalize(username),
+                REGISTRATION_PREFIX + normalize(email)), REGISTRATION_IP_PREFIX + clientIp);
+    }
+
+    public void recordFailure(String account, String clientIp) {
+        long now = clock.millis();
+        recordAttempt(ACCOUNT_PREFIX + normalize(account), now);
+        recordAttempt(IP_PREFIX + clientIp, now);
+    }
+
+    public void recordRegistration(String username, String email, String clientIp) {
+        long now = clock.millis();
+        recordAttempt(REGISTRATION_PREFIX + normalize(username), now);
+        recordAttempt(REGISTRATION_PREFIX + normalize(email), now);
+        recordAttempt(REGISTRATION_IP_PREFIX + clientIp, now);
+    }
+
+    public void recordSuccess(String account) {
+        String key = ACCOUNT_PREFIX + normalize(account);
+        Stripe stripe = getStripe(key);
+        synchronized (stripe) {
+            stripe.attempts.remove(key);
+        }
+    }
+
+    private void checkKeys(String account, String clientIp, List<String> accountKeys,
+                           String ipKey) {
+        long now = clock.millis();
+        long accountBlock = 0;
+        for (String key : accountKeys) {
+            accountBlock = Math.max(accountBlock, getRemainingBlock(key, now));
+        }
+        long ipBlock = getRemainingBlock(ipKey, now);
+        if (accountBlock > 0 || ipBlock > 0) {
+            (accountBlock >= ipBlock ? throttledByAccount : throttledByIp).increment();
+            log.warn("Throttled authentication attempt for ({}) from {}", account, clientIp);
+            throw new TooManyRequestsException("Too many attempts, please try again later",
+                    toSeconds(Math.max(accountBlock, ipBlock)));
+        }
+    }
+
+    private long getRemainingBlock(String key, long now) {
+        Stripe stripe = getStripe(key);
+        synchronized (stripe) {
+            Attempts attempts = stripe.attempts.get(key);
+            return attempts == null ? 0 : attempts.blockedUntil - now;
+        }
+    }
+
+    private void recordAttempt(String key, long now) {
+        Stripe stripe = getStripe(key);
+        synchronized (stripe) {
+            evictExpired(stripe, now);
+            Attempts attempts = stripe.attempts.computeIfAbsent(key, k -> new Attempts());
+            if (now - attempts.lastFailure > resetAfter) {
+                attempts.failures = 0;
+            }
+            attempts.failures++;
+            attempts.lastFailure = now;
+            int excess = attempts.failures - freeAttempts;
+            if (excess > 0) {
+                long delay = baseDelay << Math.min(excess - 1, 30);
+                attempts.blockedUntil = now + Math.min(maxDelay, delay);
+            }
+        }
+    }
+
+    private void evictExpired(Stripe stripe, long now) {
+        if (now - stripe.lastEviction < resetAfter) {
+            return;
+        }
+        stripe.attempts.values().removeIf(attempts -> now - attempts.lastFailure > resetAfter
+                && now >= attempts.blockedUntil);
+        stripe.lastEviction = now;
+    }
+
+    private Stripe getStripe(String key) {
+        return stripes[Math.floorMod(key.hashCode(), STRIPES)];
+    }
+
+    private String normalize(String account) {
+        return account.toLowerCase(Locale.ROOT);
+    }
+
+    private long toSeconds(long millis) {
+        return Math.max(1, (millis + 999) / 1000);
+    }
+
+    private static class Stripe {
+        private final Map<String, Attempts> attempts;
+        private long lastEviction;
+
+        Stripe(int capacity) {
+            attempts = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Attempts> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+    }
+
+    private static class Attempts {
+        private int failures;
+        private long lastFailure;
+        private long blockedUntil;
+    }
+}
@@ -0,0 +1,91 @@
+package project.secure;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+@Component
+@Log4j2
+public class PasswordEncoderCalibrator {
+    private static final String BCRYPT = "bcrypt";
+    private static final String ARGON2 = "argon2";
+    private static final String PBKDF2 = "pbkdf2";
+    private static final int MIN_BCRYPT_STRENGTH = 10;
+    private static final int MAX_BCRYPT_STRENGTH = 16;
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+    private static final int ARGON2_PARALLELISM = 1;
+    private static final int ARGON2_MEMORY = 1 << 14;
+    private static final int MIN_ARGON2_ITERATIONS = 2;
+    private static final int MAX_ARGON2_ITERATIONS = 32;
+    private static final String SAMPLE_PASSWORD = "Calibration123!!!";
+    private final String algorithm;
+    private final Duration targetDuration;
+
+    public PasswordEncoderCalibrator(@Value("${password.hashing.algorithm}") String algorithm,
+                                     @Value("${password.hashing.target-duration}")
+                                     Duration targetDuration) {
+        this.algorithm = algorithm;
+        this.targetDuration = targetDuration;
+    }
+
+    public PasswordEncoder createEncoder() {
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, BCRYPT.equals(algorithm)
+                ? calibrateBcrypt() : new BCryptPasswordEncoder());
+        encoders.put(ARGON2, ARGON2.equals(algorithm)
+                ? calibrateArgon2() : Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (!encoders.containsKey(algorithm)) {
+            throw new IllegalStateException("Unsupported password hashing algorithm: "
+                    + algorithm);
+        }
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(algorithm, encoders);
+        encoder.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+        return encoder;
+    }
+
+    private PasswordEncoder calibrateBcrypt() {
+        long measured = measure(new BCryptPasswordEncoder(MIN_BCRYPT_STRENGTH));
+        int steps = (int) Math.floor(Math.log((double) targetDuration.toNanos() / measured)
+                / Math.log(2));
+        int strength = Math.min(MAX_BCRYPT_STRENGTH, MIN_BCRYPT_STRENGTH + Math.max(0, steps));
+        log.info("BCrypt strength calibrated to {} for target {} ms",
+                strength, targetDuration.toMillis());
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    private PasswordEncoder calibrateArgon2() {
+        long measured = measure(createArgon2(MIN_ARGON2_ITERATIONS));
+        long iterations = MIN_ARGON2_ITERATIONS * targetDuration.toNanos() / measured;
+        int calibrated = (int) Math.min(MAX_ARGON2_ITERATIONS,
+                Math.max(MIN_ARGON2_ITERATIONS, iterations));
+        log.info("Argon2 iterations calibrated to {} for target {} ms",
+                calibrated, targetDuration.toMillis());
+        return createArgon2(calibrated);
+    }
+
+    private Argon2PasswordEncoder createArgon2(int iterations) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH,
+                ARGON2_PARALLELISM, ARGON2_MEMORY, iterations);
+    }
+
+    private long measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Math.max(1, best);
+    }
+}
@@ -0,0 +1,15 @@
+package project.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import project.dto.DataFormat;
+import project.secure.AuthenticatedUser;
+
+public interface ImportService {
+    void importProjects(AuthenticatedUser user, DataFormat format, InputStream inputStream,
+                        OutputStream outputStream) throws IOException;
+
+    void importUsers(DataFormat format, InputStream inputStream, OutputStream outputStream)
+            throws IOException;
+}
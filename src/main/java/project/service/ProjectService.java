@@ -1,18 +1,73 @@
 package project.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import org.springframework.data.domain.Pageable;
+import project.dto.DataFormat;
+import project.dto.project.CalendarGranularity;
+import project.dto.project.ProjectBatchItemResponseDto;
+import project.dto.project.ProjectCalendarBucketDto;
+import project.dto.project.ProjectPageResponseDto;
 import project.dto.project.ProjectRequestDto;
 import project.dto.project.ProjectResponseDto;
+import project.dto.project.ProjectSummaryResponseDto;
+import project.dto.project.ProjectUpdateItemDto;
+import project.exception.InvalidParameterException;
+import project.model.Project;
+import project.secure.AuthenticatedUser;
 
 public interface ProjectService {
-    ProjectResponseDto create(ProjectRequestDto projectRequestDto, String username);
+    ProjectResponseDto create(ProjectRequestDto projectRequestDto, AuthenticatedUser user);
 
-    List<ProjectResponseDto> getAll(String username, Pageable pageable);
+    List<ProjectResponseDto> getAll(AuthenticatedUser user, Pageable pageable);
 
-    ProjectResponseDto get(Long id, String username);
+    List<Map<String, Object>> getAll(AuthenticatedUser user, String fields, Pageable pageable)
+            throws InvalidParameterException;
 
-    ProjectResponseDto update(Long id, ProjectRequestDto projectRequestDto, String username);
+    ProjectPageResponseDto getPage(AuthenticatedUser user, String after, int size)
+            throws InvalidParameterException;
 
-    void delete(Long id, String username);
+    List<ProjectResponseDto> search(AuthenticatedUser user, String query, Pageable pageable)
+            throws InvalidParameterException;
+
+    ProjectSummaryResponseDto getSummary(AuthenticatedUser user);
+
+    List<ProjectCalendarBucketDto> getCalendar(AuthenticatedUser user, LocalDate from,
+                                               LocalDate to, CalendarGranularity granularity)
+            throws InvalidParameterException;
+
+    List<ProjectResponseDto> getArchived(AuthenticatedUser user, Pageable pageable);
+
+    void export(AuthenticatedUser user, DataFormat format, OutputStream outputStream)
+            throws IOException;
+
+    long getListVersion(AuthenticatedUser user);
+
+    ProjectResponseDto get(Long id, AuthenticatedUser user);
+
+    Long getVersion(Long id, AuthenticatedUser user);
+
+    ProjectResponseDto update(Long id, ProjectRequestDto projectRequestDto,
+                              AuthenticatedUser user, Long expectedVersion);
+
+    ProjectResponseDto patch(Long id, JsonNode patch, AuthenticatedUser user,
+                             Long expectedVersion) throws InvalidParameterException;
+
+    ProjectResponseDto changeStatus(Long id, Project.Status status, AuthenticatedUser user,
+                                    Long expectedVersion) throws InvalidParameterException;
+
+    void delete(Long id, AuthenticatedUser user);
+
+    List<ProjectBatchItemResponseDto> createAll(List<ProjectRequestDto> projectRequestDtos,
+                                                AuthenticatedUser user);
+
+    List<ProjectBatchItemResponseDto> updateAll(List<ProjectUpdateItemDto> projectUpdateItemDtos,
+                                                AuthenticatedUser user)
+            throws InvalidParameterException;
+
+    List<ProjectBatchItemResponseDto> deleteAll(List<Long> ids, AuthenticatedUser user);
 }
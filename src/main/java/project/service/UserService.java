@@ -1,20 +1,28 @@
 package project.service;
 
+import java.util.Map;
 import project.dto.user.request.UserUpdatePasswordRequestDto;
 import project.dto.user.request.UserUpdatePersonalInfoRequestDto;
 import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserUpdateResponseDto;
 import project.exception.DataEditingException;
+import project.exception.InvalidParameterException;
 import project.model.User;
+import project.secure.AuthenticatedUser;
 
 public interface UserService {
-    UserResponseDto getByUsername(String username);
+    UserResponseDto get(AuthenticatedUser user);
 
-    void updateRole(Long id, User.Role role, String username) throws DataEditingException;
+    Map<String, Object> get(AuthenticatedUser user, String fields)
+            throws InvalidParameterException;
+
+    void updateRole(Long id, User.Role role, AuthenticatedUser currentUser)
+            throws DataEditingException;
 
     UserUpdateResponseDto updatePersonalInfo(UserUpdatePersonalInfoRequestDto requestDto,
-                                             String username) throws DataEditingException;
+                                             AuthenticatedUser currentUser)
+            throws DataEditingException;
 
-    void updatePassword(UserUpdatePasswordRequestDto requestDto, String username)
+    void updatePassword(UserUpdatePasswordRequestDto requestDto, AuthenticatedUser currentUser)
             throws DataEditingException;
 }
@@ -0,0 +1,338 @@
+package project.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.dto.DataFormat;
+import project.dto.ImportEventDto;
+import project.dto.project.ProjectRequestDto;
+import project.dto.user.request.UserRegistrationRequestDto;
+import project.mapper.ProjectMapper;
+import project.mapper.UserMapper;
+import project.model.Project;
+import project.model.User;
+import project.repository.ProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
+import project.repository.UserIdentifierFilter;
+import project.repository.UserRepository;
+import project.secure.AuthenticatedUser;
+import project.service.ImportService;
+import project.util.RecordReader;
+
+@Service
+@Log4j2
+public class ImportServiceImpl implements ImportService {
+    private static final String SAVE_FAILED = "Unable to save the record";
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
+    private final ProjectMapper projectMapper;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashingExecutor;
+    private final UserIdentifierFilter userIdentifierFilter;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int maxRecordSize;
+
+    public ImportServiceImpl(ProjectRepository projectRepository,
+                             UserRepository userRepository,
+                             ProjectStatusCounterRepository projectStatusCounterRepository,
+                             ProjectMapper projectMapper,
+                             UserMapper userMapper,
+                             PasswordEncoder passwordEncoder,
+                             UserIdentifierFilter userIdentifierFilter,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             TransactionTemplate transactionTemplate,
+                             @Value("${import.chunk-size}") int chunkSize,
+                             @Value("${import.hashing.pool-size}") int hashingPoolSize,
+                             @Value("${import.max-record-size}") int maxRecordSize) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectStatusCounterRepository = projectStatusCounterRepository;
+        this.projectMapper = projectMapper;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.userIdentifierFilter = userIdentifierFilter;
+        this.validator = validator;
+        this.objectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxRecordSize = maxRecordSize;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.hashingExecutor = Executors.newFixedThreadPool(hashingPoolSize,
+                runnable -> new Thread(runnable,
+                        "import-password-hashing-" + threadNumber.incrementAndGet()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    @Override
+    public void importProjects(AuthenticatedUser user, DataFormat format,
+                               InputStream inputStream, OutputStream outputStream)
+            throws IOException {
+        ImportEventDto summary = importRecords(format, inputStream, outputStream,
+                ProjectRequestDto.class, chunk -> saveProjects(chunk, user));
+        log.info("User ({}) imported {} of {} projects",
+                user.getName(), summary.getImported(), summary.getProcessed());
+    }
+
+    @Override
+    public void importUsers(DataFormat format, InputStream inputStream,
+                            OutputStream outputStream) throws IOException {
+        ImportEventDto summary = importRecords(format, inputStream, outputStream,
+                UserRegistrationRequestDto.class, this::saveUsers);
+        log.info("Imported {} of {} users", summary.getImported(), summary.getProcessed());
+    }
+
+    private <T> ImportEventDto importRecords(DataFormat format, InputStream inputStream,
+                                             OutputStream outputStream, Class<T> type,
+                                             ChunkWriter<T> chunkWriter) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        ImportEventDto progress = new ImportEventDto()
+                .setType(ImportEventDto.Type.PROGRESS)
+                .setProcessed(0L)
+                .setImported(0L)
+                .setFailed(0L);
+        List<ImportRecord<T>> chunk = new ArrayList<>(chunkSize);
+        try (RecordReader reader = new RecordReader(inputStream, format, objectMapper,
+                maxRecordSize)) {
+            JsonNode node;
+            while ((node = readRecord(reader, writer, progress)) != null) {
+                if (node.isMissingNode()) {
+                    continue;
+                }
+                T record = toRecord(node, type, reader.getLineNumber(), writer, progress);
+                if (record != null) {
+                    chunk.add(new ImportRecord<>(reader.getLineNumber(), record));
+                }
+                if (chunk.size() == chunkSize) {
+                    writeChunk(chunk, chunkWriter, writer, progress);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, chunkWriter, writer, progress);
+        }
+        progress.setType(ImportEventDto.Type.SUMMARY);
+        writeEvent(writer, progress);
+        writer.flush();
+        return progress;
+    }
+
+    private JsonNode readRecord(RecordReader reader, Writer writer, ImportEventDto progress)
+            throws IOException {
+        try {
+            JsonNode node = reader.next();
+            if (node != null) {
+                progress.setProcessed(progress.getProcessed() + 1);
+            }
+            return node;
+        } catch (RecordReader.RecordTooLargeException e) {
+            progress.setProcessed(progress.getProcessed() + 1);
+            writeError(writer, progress, reader.getLineNumber(), e.getMessage());
+            return objectMapper.missingNode();
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            progress.setProcessed(progress.getProcessed() + 1);
+            writeError(writer, progress, reader.getLineNumber(), "Malformed record");
+            return objectMapper.missingNode();
+        }
+    }
+
+    private <T> T toRecord(JsonNode node, Class<T> type, long line, Writer writer,
+                           ImportEventDto progress) throws IOException {
+        T record;
+        try {
+            record = objectMapper.treeToValue(node, type);
+        } catch (JsonProcessingException e) {
+            writeError(writer, progress, line, "Invalid value: " + e.getOriginalMessage());
+            return null;
+        }
+        if (record instanceof UserRegistrationRequestDto user
+                && user.getRepeatPassword() == null) {
+            user.setRepeatPassword(user.getPassword());
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            writeError(writer, progress, line, violations.stream()
+                    .map(this::getError)
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return record;
+    }
+
+    private <T> void writeChunk(List<ImportRecord<T>> chunk, ChunkWriter<T> chunkWriter,
+                                Writer writer, ImportEventDto progress) throws IOException {
+        Map<Long, String> errors = chunkWriter.write(chunk);
+        for (ImportRecord<T> record : chunk) {
+            String error = errors.get(record.line());
+            if (error != null) {
+                writeError(writer, progress, record.line(), error);
+            }
+        }
+        progress.setImported(progress.getImported() + chunk.size() - errors.size());
+        chunk.clear();
+        writeEvent(writer, progress);
+        writer.flush();
+    }
+
+    private Map<Long, String> saveProjects(List<ImportRecord<ProjectRequestDto>> chunk,
+                                           AuthenticatedUser user) {
+        User owner = userRepository.getReferenceById(user.id());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                projectRepository.saveAll(chunk.stream()
+                        .map(record -> projectMapper.toModel(record.value())
+                                .setUser(owner))
+                        .toList());
+                projectStatusCounterRepository.add(user.id(), Project.Status.INITIATED,
+                        chunk.size());
+                userRepository.incrementProjectsVersion(user.id());
+            });
+            return Map.of();
+        } catch (DataAccessException e) {
+            log.warn("Failed to import a chunk of projects for user ({})", user.getName(), e);
+            return failAll(chunk);
+        }
+    }
+
+    private Map<Long, String> saveUsers(List<ImportRecord<UserRegistrationRequestDto>> chunk) {
+        Map<Long, String> errors = new HashMap<>();
+        Set<String> identifiers = new HashSet<>();
+        List<ImportRecord<UserRegistrationRequestDto>> candidates = new ArrayList<>();
+        for (ImportRecord<UserRegistrationRequestDto> record : chunk) {
+            if (!identifiers.add(normalize(record.value().getUsername()))
+                    | !identifiers.add(normalize(record.value().getEmail()))) {
+                errors.put(record.line(), "Duplicate username or email in the same chunk");
+            } else {
+                candidates.add(record);
+            }
+        }
+        Set<String> taken = findTakenIdentifiers(candidates);
+        List<ImportRecord<UserRegistrationRequestDto>> accepted = new ArrayList<>();
+        for (ImportRecord<UserRegistrationRequestDto> record : candidates) {
+            if (taken.contains(normalize(record.value().getUsername()))
+                    || taken.contains(normalize(record.value().getEmail()))) {
+                errors.put(record.line(), "Username or email is already taken");
+            } else {
+                accepted.add(record);
+            }
+        }
+        List<CompletableFuture<String>> hashes = accepted.stream()
+                .map(record -> hashPassword(record.value().getPassword()))
+                .toList();
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(userMapper.toModel(accepted.get(i).value())
+                    .setPassword(hashes.get(i).join()));
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+        } catch (DataAccessException e) {
+            log.warn("Failed to import a chunk of users", e);
+            errors.putAll(failAll(accepted));
+            return errors;
+        }
+        users.forEach(user -> userIdentifierFilter.add(user.getUsername(), user.getEmail()));
+        return errors;
+    }
+
+    private Set<String> findTakenIdentifiers(
+            List<ImportRecord<UserRegistrationRequestDto>> records) {
+        List<String> usernames = new ArrayList<>();
+        List<String> emails = new ArrayList<>();
+        for (ImportRecord<UserRegistrationRequestDto> record : records) {
+            if (userIdentifierFilter.mightBeTaken(record.value().getUsername(),
+                    record.value().getEmail())) {
+                usernames.add(record.value().getUsername());
+                emails.add(record.value().getEmail());
+            }
+        }
+        if (usernames.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findTakenIdentifiersIncludingDeleted(usernames, emails).stream()
+                .map(this::normalize)
+                .collect(Collectors.toSet());
+    }
+
+    private CompletableFuture<String> hashPassword(String password) {
+        return CompletableFuture.supplyAsync(() -> passwordEncoder.encode(password),
+                hashingExecutor);
+    }
+
+    private <T> Map<Long, String> failAll(List<ImportRecord<T>> records) {
+        return records.stream()
+                .collect(Collectors.toMap(ImportRecord::line, record -> SAVE_FAILED));
+    }
+
+    private void writeError(Writer writer, ImportEventDto progress, long line, String message)
+            throws IOException {
+        progress.setFailed(progress.getFailed() + 1);
+        writeEvent(writer, new ImportEventDto()
+                .setType(ImportEventDto.Type.ERROR)
+                .setLine(line)
+                .setMessage(message));
+    }
+
+    private void writeEvent(Writer writer, ImportEventDto event) throws IOException {
+        writer.write(objectMapper.writeValueAsString(event));
+        writer.write('\n');
+    }
+
+    private <T> String getError(ConstraintViolation<T> violation) {
+        String field = violation.getPropertyPath().toString();
+        return field.isEmpty() ? violation.getMessage() : field + " " + violation.getMessage();
+    }
+
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    @FunctionalInterface
+    private interface ChunkWriter<T> {
+        Map<Long, String> write(List<ImportRecord<T>> chunk);
+    }
+
+    private record ImportRecord<T>(long line, T value) {
+    }
+}
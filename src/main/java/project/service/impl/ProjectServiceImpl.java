@@ -1,83 +1,587 @@
 package project.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import jakarta.validation.Validator;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import project.dto.DataFormat;
+import project.dto.project.CalendarGranularity;
+import project.dto.project.ProjectBatchItemResponseDto;
+import project.dto.project.ProjectCalendarBucketDto;
+import project.dto.project.ProjectPageResponseDto;
 import project.dto.project.ProjectRequestDto;
 import project.dto.project.ProjectResponseDto;
+import project.dto.project.ProjectSummaryResponseDto;
+import project.dto.project.ProjectUpdateItemDto;
 import project.exception.AccessDeniedException;
+import project.exception.InvalidParameterException;
+import project.exception.PreconditionFailedException;
 import project.mapper.ProjectMapper;
 import project.model.Project;
+import project.model.ProjectStatusCounter;
 import project.model.User;
+import project.repository.ArchivedProjectRepository;
+import project.repository.ProjectFieldsRepository;
 import project.repository.ProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
 import project.repository.UserRepository;
+import project.repository.projection.PeriodCountView;
+import project.repository.projection.ProjectStatusView;
+import project.repository.projection.ProjectView;
+import project.secure.AuthenticatedUser;
 import project.service.ProjectService;
+import project.util.FieldSelectionUtil;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class ProjectServiceImpl implements ProjectService {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+    private static final int MAX_CALENDAR_BUCKETS = 400;
+    private static final String CURSOR_SEPARATOR = ":";
+    private static final String CSV_HEADER = "id,name,description,startDate,endDate,userId,status";
+    private static final String START_DATE = "startDate";
+    private static final String END_DATE = "endDate";
+    private static final Set<String> PATCHABLE_FIELDS = Set.of("name", "description",
+            START_DATE, END_DATE);
     private final ProjectRepository projectRepository;
+    private final ArchivedProjectRepository archivedProjectRepository;
     private final UserRepository userRepository;
+    private final ProjectStatusCounterRepository projectStatusCounterRepository;
     private final ProjectMapper projectMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @Override
     @Transactional
-    public ProjectResponseDto create(ProjectRequestDto projectRequestDto, String username) {
-        User user = userRepository.getUserByUsername(username);
+    public ProjectResponseDto create(ProjectRequestDto projectRequestDto,
+                                     AuthenticatedUser user) {
         Project project = projectRepository.save(
                 projectMapper.toModel(projectRequestDto)
-                        .setUser(user));
-        log.info("User ({}) created a new project {}", username, project);
+                        .setUser(userRepository.getReferenceById(user.id())));
+        projectStatusCounterRepository.add(user.id(), project.getStatus(), 1);
+        markChanged(user);
+        log.info("User ({}) created a new project {}", user.getName(), project);
         return projectMapper.toDto(project);
     }
 
     @Override
-    public List<ProjectResponseDto> getAll(String username, Pageable pageable) {
-        User user = userRepository.getUserByUsername(username);
-        return projectRepository.findAllByUserIdWithSorting(user.getId(), pageable).stream()
+    public List<ProjectResponseDto> getAll(AuthenticatedUser user, Pageable pageable) {
+        return projectRepository.findAllByUserIdWithSorting(user.id(), pageable).stream()
                 .map(projectMapper::toDto)
                 .toList();
     }
 
     @Override
-    public ProjectResponseDto get(Long id, String username) {
-        Project project = checkProjectById(id, username);
+    public List<Map<String, Object>> getAll(AuthenticatedUser user, String fields,
+                                            Pageable pageable) throws InvalidParameterException {
+        return projectRepository.findFieldsByUserId(user.id(), FieldSelectionUtil.parse(fields,
+                ProjectFieldsRepository.SELECTABLE_FIELDS), pageable);
+    }
+
+    @Override
+    public ProjectPageResponseDto getPage(AuthenticatedUser user, String after, int size)
+            throws InvalidParameterException {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidParameterException("Page size must be between 1 and "
+                    + MAX_PAGE_SIZE);
+        }
+        Limit limit = Limit.of(size + 1);
+        List<ProjectView> projects;
+        if (after == null || after.isBlank()) {
+            projects = projectRepository.findFirstPageByUserId(user.id(), limit);
+        } else {
+            Cursor cursor = decodeCursor(after);
+            projects = projectRepository.findPageByUserIdAfter(
+                    user.id(), cursor.statusRank(), cursor.id(), limit);
+        }
+        boolean hasMore = projects.size() > size;
+        List<ProjectView> content = hasMore ? projects.subList(0, size) : projects;
+        return new ProjectPageResponseDto()
+                .setContent(content.stream()
+                        .map(projectMapper::toDto)
+                        .toList())
+                .setNextCursor(hasMore ? encodeCursor(content.get(size - 1)) : null)
+                .setHasMore(hasMore);
+    }
+
+    @Override
+    public List<ProjectResponseDto> search(AuthenticatedUser user, String query,
+                                           Pageable pageable) throws InvalidParameterException {
+        if (query == null || query.isBlank()) {
+            throw new InvalidParameterException("Search query must not be blank");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new InvalidParameterException("Search query must be at most "
+                    + MAX_QUERY_LENGTH + " characters");
+        }
+        int size = Math.min(pageable.getPageSize(), MAX_PAGE_SIZE);
+        List<Long> ids = projectRepository.searchIdsByUserId(user.id(), query.strip(), size,
+                (long) pageable.getPageNumber() * size);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ProjectView> projects = projectRepository.findAllViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(ProjectView::getId, Function.identity()));
+        return ids.stream()
+                .map(projects::get)
+                .filter(Objects::nonNull)
+                .map(projectMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    public ProjectSummaryResponseDto getSummary(AuthenticatedUser user) {
+        ProjectStatusCounter counter = projectStatusCounterRepository.findById(user.id())
+                .orElseGet(() -> new ProjectStatusCounter().setUserId(user.id()));
+        return new ProjectSummaryResponseDto()
+                .setInitiated(counter.getInitiated())
+                .setInProgress(counter.getInProgress())
+                .setCompleted(counter.getCompleted())
+                .setTotal(counter.getInitiated() + counter.getInProgress()
+                        + counter.getCompleted());
+    }
+
+    @Override
+    public List<ProjectCalendarBucketDto> getCalendar(AuthenticatedUser user, LocalDate from,
+                                                      LocalDate to,
+                                                      CalendarGranularity granularity)
+            throws InvalidParameterException {
+        if (from.isAfter(to)) {
+            throw new InvalidParameterException("Calendar start date must not be after end date");
+        }
+        LocalDate origin = granularity.getBucketStart(from);
+        int bucketCount = granularity.getBucketIndex(origin, to) + 1;
+        if (bucketCount > MAX_CALENDAR_BUCKETS) {
+            throw new InvalidParameterException("Calendar range must contain at most "
+                    + MAX_CALENDAR_BUCKETS + " buckets");
+        }
+        long[] activeChanges = new long[bucketCount + 1];
+        long[] starting = new long[bucketCount];
+        long[] ending = new long[bucketCount];
+        for (PeriodCountView period
+                : projectRepository.countPeriodsByUserIdOverlapping(user.id(), from, to)) {
+            LocalDate startDate = period.getStartDate();
+            LocalDate endDate = period.getEndDate();
+            long count = period.getCount();
+            activeChanges[granularity.getBucketIndex(origin,
+                    startDate.isBefore(from) ? from : startDate)] += count;
+            activeChanges[granularity.getBucketIndex(origin,
+                    endDate.isAfter(to) ? to : endDate) + 1] -= count;
+            if (!startDate.isBefore(from)) {
+                starting[granularity.getBucketIndex(origin, startDate)] += count;
+            }
+            if (!endDate.isAfter(to)) {
+                ending[granularity.getBucketIndex(origin, endDate)] += count;
+            }
+        }
+        List<ProjectCalendarBucketDto> buckets = new ArrayList<>(bucketCount);
+        long active = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            active += activeChanges[i];
+            buckets.add(new ProjectCalendarBucketDto()
+                    .setDate(granularity.getBucketDate(origin, i))
+                    .setActive(active)
+                    .setStarting(starting[i])
+                    .setEnding(ending[i]));
+        }
+        return buckets;
+    }
+
+    @Override
+    public List<ProjectResponseDto> getArchived(AuthenticatedUser user, Pageable pageable) {
+        return archivedProjectRepository.findAllByUserId(user.id(), pageable).stream()
+                .map(projectMapper::toDto)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void export(AuthenticatedUser user, DataFormat format,
+                       OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == DataFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+        long count = 0;
+        try (Stream<ProjectView> projects = projectRepository.streamAllByUserId(user.id())) {
+            for (ProjectView project : (Iterable<ProjectView>) projects::iterator) {
+                ProjectResponseDto projectResponseDto = projectMapper.toDto(project);
+                writer.write(format == DataFormat.CSV
+                        ? toCsvRow(projectResponseDto)
+                        : objectMapper.writeValueAsString(projectResponseDto));
+                writer.write('\n');
+                count++;
+            }
+        }
+        writer.flush();
+        log.info("User ({}) exported {} projects as {}", user.getName(), count, format);
+    }
+
+    @Override
+    public long getListVersion(AuthenticatedUser user) {
+        return userRepository.findProjectsVersionById(user.id())
+                .orElseThrow(() -> new EntityNotFoundException(
+                        "User with id " + user.id() + " is not found"));
+    }
+
+    @Override
+    public ProjectResponseDto get(Long id, AuthenticatedUser user) {
+        ProjectView project = projectRepository.findByIdAndUserId(id, user.id())
+                .orElseThrow(() -> getAccessException(id));
         return projectMapper.toDto(project);
     }
 
+    @Override
+    public Long getVersion(Long id, AuthenticatedUser user) {
+        return projectRepository.findVersionByIdAndUserId(id, user.id()).orElse(null);
+    }
+
     @Override
     @Transactional
     public ProjectResponseDto update(Long id,
                                      ProjectRequestDto projectRequestDto,
-                                     String username) {
-        Project project = checkProjectById(id, username);
-        project.setName(projectRequestDto.getName())
-                .setDescription(projectRequestDto.getDescription())
-                .setStartDate(projectRequestDto.getStartDate())
-                .setEndDate(projectRequestDto.getEndDate());
-        log.info("User ({}) updated a project {}", username, project);
-        return projectMapper.toDto(projectRepository.save(project));
+                                     AuthenticatedUser user,
+                                     Long expectedVersion) {
+        int updated = projectRepository.updateByIdAndUserId(id, user.id(),
+                projectRequestDto.getName(),
+                projectRequestDto.getDescription(),
+                projectRequestDto.getStartDate(),
+                projectRequestDto.getEndDate(),
+                expectedVersion);
+        if (updated == 0) {
+            if (expectedVersion != null && projectRepository.existsByIdAndUserId(id, user.id())) {
+                throw new PreconditionFailedException("Project with id " + id
+                        + " was modified by another request");
+            }
+            throw getAccessException(id);
+        }
+        markChanged(user);
+        log.info("User ({}) updated a project (ID {})", user.getName(), id);
+        return get(id, user);
+    }
+
+    @Override
+    @Transactional
+    public ProjectResponseDto patch(Long id, JsonNode patch, AuthenticatedUser user,
+                                    Long expectedVersion) throws InvalidParameterException {
+        ProjectView current = projectRepository.findByIdAndUserId(id, user.id())
+                .orElseThrow(() -> getAccessException(id));
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new PreconditionFailedException("Project with id " + id
+                    + " was modified by another request");
+        }
+        ProjectRequestDto patched = applyPatch(current, patch);
+        Map<String, Object> changes = getChanges(current, patched);
+        if (changes.isEmpty()) {
+            return projectMapper.toDto(current);
+        }
+        boolean datesChanged = changes.containsKey(START_DATE) || changes.containsKey(END_DATE);
+        Long guardVersion = expectedVersion != null || datesChanged ? current.getVersion() : null;
+        if (projectRepository.patchByIdAndUserId(id, user.id(), changes, guardVersion) == 0) {
+            if (guardVersion == null) {
+                throw getAccessException(id);
+            }
+            throw new PreconditionFailedException("Project with id " + id
+                    + " was modified by another request");
+        }
+        markChanged(user);
+        log.info("User ({}) patched a project (ID {}) fields {}",
+                user.getName(), id, changes.keySet());
+        return get(id, user);
+    }
+
+    @Override
+    @Transactional
+    public ProjectResponseDto changeStatus(Long id, Project.Status status,
+                                           AuthenticatedUser user, Long expectedVersion)
+            throws InvalidParameterException {
+        ProjectView current = projectRepository.findByIdAndUserId(id, user.id())
+                .orElseThrow(() -> getAccessException(id));
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new PreconditionFailedException("Project with id " + id
+                    + " was modified by another request");
+        }
+        if (!current.getStatus().canTransitionTo(status)) {
+            throw new InvalidParameterException("Project status can't be changed from "
+                    + current.getStatus() + " to " + status);
+        }
+        if (projectRepository.updateStatusByIdAndUserId(id, user.id(),
+                current.getStatus(), status) == 0) {
+            throw new PreconditionFailedException("Project with id " + id
+                    + " was modified by another request");
+        }
+        projectStatusCounterRepository.add(user.id(), current.getStatus(), -1);
+        projectStatusCounterRepository.add(user.id(), status, 1);
+        markChanged(user);
+        log.info("User ({}) changed a project (ID {}) status from {} to {}",
+                user.getName(), id, current.getStatus(), status);
+        return get(id, user);
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id, AuthenticatedUser user) {
+        Project.Status status = projectRepository
+                .lockStatusesByIdInAndUserId(List.of(id), user.id()).stream()
+                .findFirst()
+                .map(ProjectStatusView::getStatus)
+                .orElseThrow(() -> getAccessException(id));
+        if (projectRepository.softDeleteByIdAndUserId(id, user.id()) == 0) {
+            throw getAccessException(id);
+        }
+        projectStatusCounterRepository.add(user.id(), status, -1);
+        markChanged(user);
+        log.info("User ({}) deleted a project (ID {})", user.getName(), id);
+    }
+
+    @Override
+    @Transactional
+    public List<ProjectBatchItemResponseDto> createAll(List<ProjectRequestDto> projectRequestDtos,
+                                                       AuthenticatedUser user) {
+        User owner = userRepository.getReferenceById(user.id());
+        List<Project> projects = projectRepository.saveAll(projectRequestDtos.stream()
+                .map(projectRequestDto -> projectMapper.toModel(projectRequestDto)
+                        .setUser(owner))
+                .toList());
+        projects.stream()
+                .collect(Collectors.groupingBy(Project::getStatus, Collectors.counting()))
+                .forEach((status, count) ->
+                        projectStatusCounterRepository.add(user.id(), status, count));
+        markChanged(user);
+        log.info("User ({}) created {} projects in batch", user.getName(), projects.size());
+        return projects.stream()
+                .map(project -> new ProjectBatchItemResponseDto()
+                        .setId(project.getId())
+                        .setResult(ProjectBatchItemResponseDto.Result.CREATED)
+                        .setProject(projectMapper.toDto(project)))
+                .toList();
     }
 
     @Override
     @Transactional
-    public void delete(Long id, String username) {
-        Project project = checkProjectById(id, username);
-        log.info("User ({}) deleted a project (ID {})", username, id);
-        projectRepository.delete(project);
+    public List<ProjectBatchItemResponseDto> updateAll(
+            List<ProjectUpdateItemDto> projectUpdateItemDtos, AuthenticatedUser user)
+            throws InvalidParameterException {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (ProjectUpdateItemDto item : projectUpdateItemDtos) {
+            if (!ids.add(item.getId())) {
+                throw new InvalidParameterException("Project with id " + item.getId()
+                        + " appears more than once in the batch");
+            }
+        }
+        Map<Long, Project> ownedProjects = projectRepository
+                .findAllByIdInAndUserId(ids, user.id()).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        Set<Long> existingIds = findExistingIds(ids, ownedProjects.keySet());
+        List<ProjectBatchItemResponseDto> results = new ArrayList<>();
+        for (ProjectUpdateItemDto item : projectUpdateItemDtos) {
+            Project project = ownedProjects.get(item.getId());
+            if (project == null) {
+                results.add(getBatchFailure(item.getId(), existingIds));
+                continue;
+            }
+            ProjectRequestDto projectRequestDto = item.getProject();
+            project.setName(projectRequestDto.getName())
+                    .setDescription(projectRequestDto.getDescription())
+                    .setStartDate(projectRequestDto.getStartDate())
+                    .setEndDate(projectRequestDto.getEndDate());
+            results.add(new ProjectBatchItemResponseDto()
+                    .setId(project.getId())
+                    .setResult(ProjectBatchItemResponseDto.Result.UPDATED));
+        }
+        if (!ownedProjects.isEmpty()) {
+            projectRepository.flush();
+            markChanged(user);
+            results.stream()
+                    .filter(result -> result.getResult()
+                            == ProjectBatchItemResponseDto.Result.UPDATED)
+                    .forEach(result -> result.setProject(
+                            projectMapper.toDto(ownedProjects.get(result.getId()))));
+        }
+        log.info("User ({}) updated {} projects in batch",
+                user.getName(), ownedProjects.size());
+        return results;
+    }
+
+    @Override
+    @Transactional
+    public List<ProjectBatchItemResponseDto> deleteAll(List<Long> ids, AuthenticatedUser user) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        Map<Long, Project.Status> ownedStatuses = projectRepository
+                .lockStatusesByIdInAndUserId(requestedIds, user.id()).stream()
+                .collect(Collectors.toMap(ProjectStatusView::getId, ProjectStatusView::getStatus));
+        Set<Long> ownedIds = ownedStatuses.keySet();
+        Set<Long> existingIds = findExistingIds(requestedIds, ownedIds);
+        if (!ownedIds.isEmpty()) {
+            ownedStatuses.values().stream()
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()))
+                    .forEach((status, count) ->
+                            projectStatusCounterRepository.add(user.id(), status, -count));
+            projectRepository.softDeleteAllByIdIn(ownedIds);
+            markChanged(user);
+        }
+        log.info("User ({}) deleted projects in batch (IDs {})", user.getName(), ownedIds);
+        return ids.stream()
+                .map(id -> ownedIds.contains(id)
+                        ? new ProjectBatchItemResponseDto()
+                                .setId(id)
+                                .setResult(ProjectBatchItemResponseDto.Result.DELETED)
+                        : getBatchFailure(id, existingIds))
+                .toList();
+    }
+
+    private void markChanged(AuthenticatedUser user) {
+        userRepository.incrementProjectsVersion(user.id());
+    }
+
+    private ProjectRequestDto applyPatch(ProjectView current, JsonNode patch)
+            throws InvalidParameterException {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidParameterException("Patch must be a JSON object");
+        }
+        Set<String> fields = new HashSet<>();
+        patch.fieldNames().forEachRemaining(fields::add);
+        for (String field : fields) {
+            if (!PATCHABLE_FIELDS.contains(field)) {
+                throw new InvalidParameterException("Field " + field + " can't be patched");
+            }
+        }
+        ProjectRequestDto patched = new ProjectRequestDto()
+                .setName(current.getName())
+                .setDescription(current.getDescription())
+                .setStartDate(current.getStartDate())
+                .setEndDate(current.getEndDate());
+        try {
+            objectMapper.readerForUpdating(patched).readValue(patch);
+        } catch (IOException e) {
+            throw new InvalidParameterException("Invalid patch value");
+        }
+        boolean datesPatched = fields.contains(START_DATE) || fields.contains(END_DATE);
+        String errors = validator.validate(patched).stream()
+                .filter(violation -> {
+                    String field = violation.getPropertyPath().toString();
+                    return field.isEmpty() ? datesPatched : fields.contains(field);
+                })
+                .map(violation -> violation.getPropertyPath().toString().isEmpty()
+                        ? violation.getMessage()
+                        : violation.getPropertyPath() + " " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        if (!errors.isEmpty()) {
+            throw new InvalidParameterException(errors);
+        }
+        return patched;
+    }
+
+    private Map<String, Object> getChanges(ProjectView current, ProjectRequestDto patched) {
+        Map<String, Object> changes = new HashMap<>();
+        putIfChanged(changes, "name", current.getName(), patched.getName());
+        putIfChanged(changes, "description", current.getDescription(),
+                patched.getDescription());
+        putIfChanged(changes, START_DATE, current.getStartDate(), patched.getStartDate());
+        putIfChanged(changes, END_DATE, current.getEndDate(), patched.getEndDate());
+        return changes;
+    }
+
+    private void putIfChanged(Map<String, Object> changes, String field,
+                              Object currentValue, Object patchedValue) {
+        if (!Objects.equals(currentValue, patchedValue)) {
+            changes.put(field, patchedValue);
+        }
     }
 
-    private Project checkProjectById(Long id, String username) {
-        Project project = projectRepository.findById(id).orElseThrow(
-                () -> new EntityNotFoundException("Project with id " + id + " is not found"));
-        if (!project.getUser().getUsername().equals(username)) {
-            throw new AccessDeniedException("You do not have a project with id " + id);
+    private Set<Long> findExistingIds(Set<Long> requestedIds, Set<Long> ownedIds) {
+        if (ownedIds.size() == requestedIds.size()) {
+            return ownedIds;
         }
-        return project;
+        return new HashSet<>(projectRepository.findExistingIds(requestedIds));
+    }
+
+    private ProjectBatchItemResponseDto getBatchFailure(Long id, Set<Long> existingIds) {
+        return new ProjectBatchItemResponseDto()
+                .setId(id)
+                .setResult(existingIds.contains(id)
+                        ? ProjectBatchItemResponseDto.Result.FORBIDDEN
+                        : ProjectBatchItemResponseDto.Result.NOT_FOUND);
+    }
+
+    private String toCsvRow(ProjectResponseDto project) {
+        return String.join(",",
+                String.valueOf(project.getId()),
+                escapeCsv(project.getName()),
+                escapeCsv(project.getDescription()),
+                String.valueOf(project.getStartDate()),
+                String.valueOf(project.getEndDate()),
+                String.valueOf(project.getUserId()),
+                project.getStatus());
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"")
+                || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+
+    private String encodeCursor(ProjectView project) {
+        String cursor = project.getStatusRank() + CURSOR_SEPARATOR + project.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Cursor decodeCursor(String cursor) throws InvalidParameterException {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor),
+                    StandardCharsets.UTF_8).split(CURSOR_SEPARATOR);
+            if (parts.length != 2) {
+                throw new InvalidParameterException("Invalid page cursor");
+            }
+            return new Cursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidParameterException("Invalid page cursor");
+        }
+    }
+
+    private RuntimeException getAccessException(Long id) {
+        if (projectRepository.existsById(id)) {
+            return new AccessDeniedException("You do not have a project with id " + id);
+        }
+        return new EntityNotFoundException("Project with id " + id + " is not found");
+    }
+
+    private record Cursor(int statusRank, long id) {
     }
 }
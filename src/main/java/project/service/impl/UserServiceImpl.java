@@ -2,8 +2,10 @@ package project.service.impl;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
+import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.log4j.Log4j2;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -14,11 +16,18 @@ import project.dto.user.request.UserUpdatePersonalInfoRequestDto;
 import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserUpdateResponseDto;
 import project.exception.DataEditingException;
+import project.exception.InvalidParameterException;
 import project.mapper.UserMapper;
 import project.model.User;
+import project.repository.UserCache;
+import project.repository.UserFieldsRepository;
+import project.repository.UserIdentifierFilter;
 import project.repository.UserRepository;
+import project.secure.AuthenticatedUser;
 import project.secure.JwtUtil;
+import project.secure.VerifiedTokenCache;
 import project.service.UserService;
+import project.util.FieldSelectionUtil;
 
 @Service
 @RequiredArgsConstructor
@@ -28,70 +37,111 @@ public class UserServiceImpl implements UserService {
     private final UserMapper userMapper;
     private final JwtUtil jwtUtil;
     private final PasswordEncoder passwordEncoder;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserCache userCache;
+    private final UserIdentifierFilter userIdentifierFilter;
 
     @Override
-    public UserResponseDto getByUsername(String username) {
-        return userMapper.toDto(userRepository.getUserByUsername(username));
+    public UserResponseDto get(AuthenticatedUser user) {
+        return userMapper.toDto(userCache.findById(user.id()).orElseThrow(
+                () -> new EntityNotFoundException("User with id " + user.id() + " not found!")));
+    }
+
+    @Override
+    public Map<String, Object> get(AuthenticatedUser user, String fields)
+            throws InvalidParameterException {
+        return userRepository.findFieldsById(user.id(), FieldSelectionUtil.parse(fields,
+                UserFieldsRepository.SELECTABLE_FIELDS)).orElseThrow(
+                    () -> new EntityNotFoundException("User with id " + user.id()
+                            + " not found!"));
     }
 
     @Override
     @Transactional
-    public void updateRole(Long id, User.Role role, String username) throws DataEditingException {
-        User user = userRepository.findById(id).orElseThrow(
-                () -> new EntityNotFoundException("User with id " + id + " not found!"));
-        checkUpdatingRole(user, role, username);
-        userRepository.save(user.setRole(role));
+    public void updateRole(Long id, User.Role role, AuthenticatedUser currentUser)
+            throws DataEditingException {
+        User user = getById(id);
+        checkUpdatingRole(user, role, currentUser);
+        userRepository.save(user.setRole(role)
+                .setTokenVersion(user.getTokenVersion() + 1));
+        verifiedTokenCache.invalidate(user.getId());
+        userCache.evict(user);
         log.info("User ({}) has assigned the user (ID {}) {} role ",
-                username, user.getId(), role);
+                currentUser.getName(), user.getId(), role);
     }
 
     @Override
-    @Transactional
+    @Transactional(rollbackOn = DataEditingException.class)
     public UserUpdateResponseDto updatePersonalInfo(UserUpdatePersonalInfoRequestDto requestDto,
-                                            String username) throws DataEditingException {
-        User user = userRepository.getUserByUsername(username);
-        if (userRepository.findByUsername(requestDto.getUsername()).isPresent()
-                || userRepository.findByEmail(requestDto.getEmail()).isPresent()) {
+                                                    AuthenticatedUser currentUser)
+            throws DataEditingException {
+        User user = getById(currentUser.id());
+        if (userIdentifierFilter.mightBeTaken(requestDto.getUsername(), requestDto.getEmail())
+                && userRepository.existsByUsernameOrEmailAndIdNot(requestDto.getUsername(),
+                        requestDto.getEmail(), user.getId())) {
             throw new DataEditingException("User with this email or username exists");
         }
         User updatedUser = userMapper.toModel(requestDto)
                 .setRole(user.getRole())
                 .setId(user.getId())
                 .setDeleted(user.isDeleted())
-                .setPassword(user.getPassword());
-        String token = null;
-        if (!updatedUser.getUsername().equals(user.getUsername())) {
-            token = updateAuthentication(updatedUser);
+                .setPassword(user.getPassword())
+                .setTokenVersion(user.getTokenVersion());
+        boolean isUsernameChanged = !updatedUser.getUsername().equals(user.getUsername());
+        if (isUsernameChanged) {
+            updatedUser.setTokenVersion(user.getTokenVersion() + 1);
         }
-        log.info("User ({}) has updated his personal data {} ", username, updatedUser);
-        return userMapper.toUpdateDto(userRepository.save(updatedUser)).setToken(token);
+        userCache.evict(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(updatedUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new DataEditingException("User with this email or username exists");
+        }
+        final String token = isUsernameChanged ? updateAuthentication(savedUser) : null;
+        userIdentifierFilter.add(savedUser.getUsername(), savedUser.getEmail());
+        verifiedTokenCache.invalidate(user.getId());
+        userCache.evict(savedUser);
+        log.info("User ({}) has updated his personal data {} ",
+                currentUser.getName(), savedUser);
+        return userMapper.toUpdateDto(savedUser).setToken(token);
     }
 
     @Override
     @Transactional
-    public void updatePassword(UserUpdatePasswordRequestDto requestDto, String username)
-            throws DataEditingException {
-        User user = userRepository.getUserByUsername(username);
+    public void updatePassword(UserUpdatePasswordRequestDto requestDto,
+                               AuthenticatedUser currentUser) throws DataEditingException {
+        User user = getById(currentUser.id());
         if (!passwordEncoder.matches(requestDto.getCurrentPassword(), user.getPassword())) {
             throw new DataEditingException("The current password is incorrect");
         }
-        user.setPassword(passwordEncoder.encode(requestDto.getNewPassword()));
+        user.setPassword(passwordEncoder.encode(requestDto.getNewPassword()))
+                .setTokenVersion(user.getTokenVersion() + 1);
         userRepository.save(user);
-        log.info("User ({}) has updated his password", username);
+        verifiedTokenCache.invalidate(user.getId());
+        userCache.evict(user);
+        log.info("User ({}) has updated his password", currentUser.getName());
+    }
+
+    private User getById(Long id) {
+        return userRepository.findById(id).orElseThrow(
+                () -> new EntityNotFoundException("User with id " + id + " not found!"));
     }
 
     private String updateAuthentication(User user) {
-        Authentication newAuthentication =
-                new UsernamePasswordAuthenticationToken(user.getUsername(), user.getPassword());
+        AuthenticatedUser principal = AuthenticatedUser.of(user);
+        Authentication newAuthentication = new UsernamePasswordAuthenticationToken(
+                principal, null, principal.getAuthorities());
         SecurityContextHolder.getContext().setAuthentication(newAuthentication);
-        return jwtUtil.generateToken(user.getUsername());
+        return jwtUtil.generateToken(user);
     }
 
-    private void checkUpdatingRole(User user, User.Role role, String username)
+    private void checkUpdatingRole(User user, User.Role role, AuthenticatedUser currentUser)
             throws DataEditingException {
-        User.Role seniorUser = userRepository.getUserByUsername(username).getRole();
+        String username = currentUser.getName();
+        User.Role seniorUser = currentUser.role();
 
-        if (user.getUsername().equals(username)) {
+        if (user.getId().equals(currentUser.id())) {
             log.error("User ({}) tried to update his role", username);
             throw new DataEditingException("You can`t update your role");
         } else if (seniorUser.getLevel() <= user.getRole().getLevel()) {
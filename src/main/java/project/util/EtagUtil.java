@@ -0,0 +1,48 @@
+package project.util;
+
+public class EtagUtil {
+    private static final String WEAK_PREFIX = "W/";
+    private static final String ANY = "*";
+
+    public static String forProject(Long id, long version) {
+        return "\"" + id + "." + version + "\"";
+    }
+
+    public static String forProjectList(Long userId, long version) {
+        return "\"u" + userId + "." + version + "\"";
+    }
+
+    public static String forProjectList(Long userId, long version, String fields) {
+        return "\"u" + userId + "." + version + "." + Integer.toHexString(fields.hashCode())
+                + "\"";
+    }
+
+    public static boolean matches(String header, String etag) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith(WEAK_PREFIX)) {
+                value = value.substring(WEAK_PREFIX.length());
+            }
+            if (value.equals(ANY) || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Long parseProjectVersion(String header, Long id) {
+        String value = header.trim();
+        String prefix = "\"" + id + ".";
+        if (!value.startsWith(prefix) || !value.endsWith("\"")) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.substring(prefix.length(), value.length() - 1));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
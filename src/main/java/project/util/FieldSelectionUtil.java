@@ -0,0 +1,22 @@
+package project.util;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import project.exception.InvalidParameterException;
+
+public class FieldSelectionUtil {
+    public static List<String> parse(String fields, Set<String> allowedFields)
+            throws InvalidParameterException {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.strip();
+            if (!allowedFields.contains(name)) {
+                throw new InvalidParameterException("Unsupported field: '" + name
+                        + "', allowed fields are " + allowedFields);
+            }
+            selected.add(name);
+        }
+        return List.copyOf(selected);
+    }
+}
@@ -0,0 +1,173 @@
+package project.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import project.dto.DataFormat;
+
+public class RecordReader implements Closeable {
+    private final BufferedReader reader;
+    private final DataFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordSize;
+    private List<String> header;
+    private long lineNumber;
+    private long recordLineNumber;
+
+    public RecordReader(InputStream inputStream, DataFormat format, ObjectMapper objectMapper,
+                        int maxRecordSize) {
+        this.reader = new BufferedReader(new InputStreamReader(inputStream,
+                StandardCharsets.UTF_8));
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordSize = maxRecordSize;
+    }
+
+    public JsonNode next() throws IOException {
+        if (format == DataFormat.CSV && header == null) {
+            String headerLine = readNonBlankLine();
+            if (headerLine == null) {
+                return null;
+            }
+            header = parseCsvRecord(headerLine);
+        }
+        String line = readNonBlankLine();
+        if (line == null) {
+            return null;
+        }
+        return format == DataFormat.CSV ? toNode(parseCsvRecord(line)) : parseJson(line);
+    }
+
+    public long getLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private String readNonBlankLine() throws IOException {
+        String line;
+        do {
+            recordLineNumber = lineNumber + 1;
+            line = readLine(maxRecordSize);
+        } while (line != null && line.isBlank());
+        return line;
+    }
+
+    /**
+     * Reads a line of at most {@code limit} characters, so a single huge record cannot
+     * exhaust memory. A longer line is skipped to its end and reported as too large.
+     */
+    private String readLine(int limit) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        lineNumber++;
+        while (c != -1 && c != '\n' && c != '\r') {
+            if (line.length() >= limit) {
+                skipLine(c);
+                throw new RecordTooLargeException(
+                        "Record exceeds " + maxRecordSize + " characters");
+            }
+            line.append((char) c);
+            c = reader.read();
+        }
+        skipLineBreak(c);
+        return line.toString();
+    }
+
+    private void skipLine(int c) throws IOException {
+        while (c != -1 && c != '\n' && c != '\r') {
+            c = reader.read();
+        }
+        skipLineBreak(c);
+    }
+
+    private void skipLineBreak(int c) throws IOException {
+        if (c == '\r') {
+            reader.mark(1);
+            if (reader.read() != '\n') {
+                reader.reset();
+            }
+        }
+    }
+
+    private JsonNode parseJson(String line) throws JsonProcessingException {
+        JsonNode node = objectMapper.readTree(line);
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        return node;
+    }
+
+    private ObjectNode toNode(List<String> values) {
+        ObjectNode node = objectMapper.createObjectNode();
+        for (int i = 0; i < header.size() && i < values.size(); i++) {
+            if (!values.get(i).isEmpty()) {
+                node.put(header.get(i), values.get(i));
+            }
+        }
+        return node;
+    }
+
+    private List<String> parseCsvRecord(String firstLine) throws IOException {
+        List<String> values = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        String line = firstLine;
+        boolean quoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!quoted) {
+                    break;
+                }
+                line = readLine(maxRecordSize - value.length());
+                if (line == null) {
+                    throw new IllegalArgumentException("Unterminated quoted value");
+                }
+                value.append('\n');
+                i = 0;
+                continue;
+            }
+            char c = line.charAt(i++);
+            if (quoted) {
+                if (c != '"') {
+                    value.append(c);
+                } else if (i < line.length() && line.charAt(i) == '"') {
+                    value.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(value.toString());
+                value.setLength(0);
+            } else {
+                value.append(c);
+            }
+        }
+        values.add(value.toString());
+        return values;
+    }
+
+    public static class RecordTooLargeException extends IllegalArgumentException {
+        public RecordTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
@@ -3,7 +3,9 @@ package project.controller;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -101,10 +103,13 @@ class AuthenticationControllerIntegrationTest {
     public void registerForAdmin_ValidRequestDto_ReturnsResponseDto() throws Exception {
         String jsonRequest = objectMapper.writeValueAsString(userRegistrationRequestDto);
         
-        MvcResult result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                         post("/auth/register/admin")
                                 .content(jsonRequest)
                                 .contentType(MediaType.APPLICATION_JSON))
+                                   .andExpect(request().asyncStarted())
+                                   .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                                    .andExpect(status().isCreated())
                                    .andReturn();
         UserResponseDto actual = objectMapper.readValue(
@@ -119,10 +124,13 @@ class AuthenticationControllerIntegrationTest {
     public void register_ValidRequestDto_ReturnsResponseDto() throws Exception {
         String jsonRequest = objectMapper.writeValueAsString(userRegistrationRequestDto);
         
-        MvcResult result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                         post("/auth/register")
                                 .content(jsonRequest)
                                 .contentType(MediaType.APPLICATION_JSON))
+                                   .andExpect(request().asyncStarted())
+                                   .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                                    .andExpect(status().isCreated())
                                    .andReturn();
         UserResponseDto actual = objectMapper.readValue(
@@ -137,15 +145,21 @@ class AuthenticationControllerIntegrationTest {
     public void login_ValidRequestDto_ReturnsResponseDto() throws Exception {
         String jsonRegistrationRequestDto =
                 objectMapper.writeValueAsString(userRegistrationRequestDto);
-        mockMvc.perform(post("/auth/register")
+        MvcResult registrationResult = mockMvc.perform(post("/auth/register")
                         .content(jsonRegistrationRequestDto)
-                        .contentType(MediaType.APPLICATION_JSON));
+                        .contentType(MediaType.APPLICATION_JSON))
+                                   .andReturn();
+        mockMvc.perform(asyncDispatch(registrationResult))
+                .andExpect(status().isCreated());
         
         String jsonLoginRequestDto = objectMapper.writeValueAsString(userLoginRequestDto);
-        MvcResult result = mockMvc.perform(
+        MvcResult asyncResult = mockMvc.perform(
                         post("/auth/login")
                                 .content(jsonLoginRequestDto)
                                 .contentType(MediaType.APPLICATION_JSON))
+                                   .andExpect(request().asyncStarted())
+                                   .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
                                    .andExpect(status().isOk())
                                    .andReturn();
         UserTokenResponseDto actual = objectMapper.readValue(
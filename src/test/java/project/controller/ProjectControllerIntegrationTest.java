@@ -1,16 +1,23 @@
 package project.controller;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.io.UnsupportedEncodingException;
@@ -29,10 +36,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -40,10 +47,16 @@ import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
+import project.dto.project.ProjectBatchCreateRequestDto;
+import project.dto.project.ProjectBatchDeleteRequestDto;
+import project.dto.project.ProjectBatchItemResponseDto;
+import project.dto.project.ProjectCalendarBucketDto;
+import project.dto.project.ProjectPageResponseDto;
 import project.dto.project.ProjectRequestDto;
 import project.dto.project.ProjectResponseDto;
 import project.model.Project;
 import project.model.User;
+import project.secure.WithAuthenticatedUser;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class ProjectControllerIntegrationTest {
@@ -116,7 +129,7 @@ class ProjectControllerIntegrationTest {
 
     @Test
     @DisplayName("Create a new project by valid dto")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = {
             "classpath:database/add-users-to-table.sql",
             "classpath:database/add-projects-to-table.sql"
@@ -138,9 +151,68 @@ class ProjectControllerIntegrationTest {
         EqualsBuilder.reflectionEquals(projectResponseDto.setId(6L), actual);
     }
 
+    @Test
+    @DisplayName("Create projects in batch and reject batch with invalid item")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void createProjectsBatch_ValidAndInvalidDtos_ReturnsResultsOrBadRequest()
+            throws Exception {
+        String validRequest = objectMapper.writeValueAsString(new ProjectBatchCreateRequestDto()
+                .setProjects(List.of(projectRequestDto, updatedProjectRequestDto)));
+        String invalidRequest = objectMapper.writeValueAsString(new ProjectBatchCreateRequestDto()
+                .setProjects(List.of(projectRequestDto, new ProjectRequestDto())));
+
+        MvcResult result = mockMvc.perform(post("/projects/batch")
+                        .content(validRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        mockMvc.perform(post("/projects/batch")
+                        .content(invalidRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        ProjectBatchItemResponseDto[] actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), ProjectBatchItemResponseDto[].class);
+
+        assertEquals(2, actual.length);
+        Arrays.stream(actual).forEach(item -> assertEquals(
+                ProjectBatchItemResponseDto.Result.CREATED, item.getResult()));
+    }
+
+    @Test
+    @DisplayName("Delete projects in batch with own, foreign and missing ids")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void deleteProjectsBatch_MixedIds_ReturnsPerItemResults() throws Exception {
+        String jsonRequest = objectMapper.writeValueAsString(new ProjectBatchDeleteRequestDto()
+                .setIds(List.of(1L, 4L, 100L)));
+
+        MvcResult result = mockMvc.perform(delete("/projects/batch")
+                        .content(jsonRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        ProjectBatchItemResponseDto[] actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), ProjectBatchItemResponseDto[].class);
+
+        assertEquals(ProjectBatchItemResponseDto.Result.DELETED, actual[0].getResult());
+        assertEquals(ProjectBatchItemResponseDto.Result.FORBIDDEN, actual[1].getResult());
+        assertEquals(ProjectBatchItemResponseDto.Result.NOT_FOUND, actual[2].getResult());
+        MvcResult listResult = mockMvc.perform(get("/projects")).andReturn();
+        Arrays.stream(objectMapper.readValue(listResult.getResponse().getContentAsString(),
+                        ProjectResponseDto[].class))
+                .forEach(project -> assertNotEquals(1L, project.getId()));
+    }
+
     @Test
     @DisplayName("Get user's projects")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = {
             "classpath:database/add-users-to-table.sql",
             "classpath:database/add-projects-to-table.sql"
@@ -160,9 +232,91 @@ class ProjectControllerIntegrationTest {
         assertEquals(actual[3].getId(), 2L);
     }
 
+    @Test
+    @DisplayName("Get user's projects page by page with cursor")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void getProjectsPage_CursorFromPreviousPage_ReturnsNextPage() throws Exception {
+        MvcResult firstResult = mockMvc.perform(get("/projects?after=&size=3"))
+                .andExpect(status().isOk())
+                .andReturn();
+        ProjectPageResponseDto firstPage = objectMapper.readValue(
+                firstResult.getResponse().getContentAsString(), ProjectPageResponseDto.class);
+        MvcResult secondResult = mockMvc.perform(get("/projects")
+                        .param("after", firstPage.getNextCursor())
+                        .param("size", "3"))
+                .andExpect(status().isOk())
+                .andReturn();
+        ProjectPageResponseDto secondPage = objectMapper.readValue(
+                secondResult.getResponse().getContentAsString(), ProjectPageResponseDto.class);
+
+        assertTrue(firstPage.isHasMore());
+        assertEquals(List.of(5L, 3L, 1L), firstPage.getContent().stream()
+                .map(ProjectResponseDto::getId)
+                .toList());
+        assertFalse(secondPage.isHasMore());
+        assertEquals(List.of(2L), secondPage.getContent().stream()
+                .map(ProjectResponseDto::getId)
+                .toList());
+    }
+
+    @Test
+    @DisplayName("Export user's projects as CSV")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void exportProjects_CsvFormat_StreamsHeaderAndFourRows() throws Exception {
+        MvcResult asyncResult = mockMvc.perform(get("/projects/export?format=csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+        String[] lines = result.getResponse().getContentAsString().split("\n");
+
+        assertEquals(5, lines.length);
+        assertTrue(lines[1].startsWith("5,project5,"));
+        mockMvc.perform(get("/projects/export?format=xml"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Import projects from NDJSON with one invalid line")
+    @WithAuthenticatedUser(id = 2, username = "alice123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void importProjects_NdjsonWithInvalidLine_ImportsValidProjects() throws Exception {
+        String content = objectMapper.writeValueAsString(projectRequestDto) + "\n"
+                + objectMapper.writeValueAsString(new ProjectRequestDto()) + "\n"
+                + objectMapper.writeValueAsString(updatedProjectRequestDto) + "\n";
+
+        MvcResult asyncResult = mockMvc.perform(post("/projects/import?format=ndjson")
+                        .content(content)
+                        .contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andReturn();
+        String[] events = result.getResponse().getContentAsString().split("\n");
+        JsonNode summary = objectMapper.readTree(events[events.length - 1]);
+
+        assertEquals(2, summary.get("imported").asLong());
+        assertEquals(1, summary.get("failed").asLong());
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projects WHERE user_id = 2", Integer.class));
+    }
+
     @Test
     @DisplayName("Get user's project by id")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = {
             "classpath:database/add-users-to-table.sql",
             "classpath:database/add-projects-to-table.sql"
@@ -182,7 +336,7 @@ class ProjectControllerIntegrationTest {
 
     @Test
     @DisplayName("Update project by id with valid dto")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = {
             "classpath:database/add-users-to-table.sql",
             "classpath:database/add-projects-to-table.sql"
@@ -208,9 +362,135 @@ class ProjectControllerIntegrationTest {
         EqualsBuilder.reflectionEquals(expected, actual);
     }
 
+    @Test
+    @DisplayName("Get and update project with conditional ETag headers")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void conditionalRequests_EtagHeaders_ReturnNotModifiedOrPreconditionFailed()
+            throws Exception {
+        String jsonRequest = objectMapper.writeValueAsString(updatedProjectRequestDto);
+        String etag = mockMvc.perform(get("/projects/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.0\""))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/projects/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        String listEtag = mockMvc.perform(get("/projects"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(put("/projects/1")
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(jsonRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1.1\""));
+        mockMvc.perform(put("/projects/1")
+                        .header(HttpHeaders.IF_MATCH, etag)
+                        .content(jsonRequest)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isPreconditionFailed());
+        mockMvc.perform(get("/projects/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/projects").header(HttpHeaders.IF_NONE_MATCH, listEtag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Patch project description with JSON merge patch")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void patchProject_DescriptionOnly_UpdatesDescription() throws Exception {
+        MvcResult result = mockMvc.perform(patch("/projects/1")
+                        .content("{\"description\":\"patched\"}")
+                        .contentType("application/merge-patch+json"))
+                .andExpect(status().isOk())
+                .andReturn();
+        ProjectResponseDto actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), ProjectResponseDto.class);
+
+        assertEquals("patched", actual.getDescription());
+        assertEquals("project1", actual.getName());
+        mockMvc.perform(patch("/projects/1")
+                        .content("{\"endDate\":\"" + LocalDate.now().minusDays(10) + "\"}")
+                        .contentType("application/merge-patch+json"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Get selected fields of user's projects")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void getAllProjects_FieldsAreAllowed_ReturnsOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/projects?fields=id,name,status&size=2"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().json("[{\"id\":5,\"name\":\"project5\","
+                        + "\"status\":\"INITIATED\"},{\"id\":3,\"name\":\"project3\","
+                        + "\"status\":\"IN_PROGRESS\"}]", true));
+        mockMvc.perform(get("/projects?fields=id,user"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Search user's projects by description")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void searchProjects_QueryMatchesOneProject_ReturnsIt() throws Exception {
+        MvcResult result = mockMvc.perform(get("/projects/search?q=description3"))
+                .andExpect(status().isOk())
+                .andReturn();
+        ProjectResponseDto[] actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), ProjectResponseDto[].class);
+
+        assertEquals(1, actual.length);
+        assertEquals(3L, actual[0].getId());
+        mockMvc.perform(get("/projects/search?q=description4"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[]"));
+    }
+
+    @Test
+    @DisplayName("Get calendar of user's active projects per day")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void getCalendar_DayGranularity_ReturnsBuckets() throws Exception {
+        LocalDate today = LocalDate.now();
+
+        MvcResult result = mockMvc.perform(get("/projects/calendar")
+                        .param("from", today.minusDays(2).toString())
+                        .param("to", today.toString()))
+                .andExpect(status().isOk())
+                .andReturn();
+        List<ProjectCalendarBucketDto> actual = objectMapper.readValue(
+                result.getResponse().getContentAsString(), new TypeReference<>() {});
+
+        assertEquals(List.of(
+                new ProjectCalendarBucketDto().setDate(today.minusDays(2)).setActive(2),
+                new ProjectCalendarBucketDto().setDate(today.minusDays(1)).setActive(3)
+                        .setStarting(1).setEnding(1),
+                new ProjectCalendarBucketDto().setDate(today).setActive(3)
+                        .setStarting(1).setEnding(2)), actual);
+    }
+
     @Test
     @DisplayName("Delete project by id")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = {
             "classpath:database/add-users-to-table.sql",
             "classpath:database/add-projects-to-table.sql"
@@ -227,7 +507,7 @@ class ProjectControllerIntegrationTest {
 
     @Test
     @DisplayName("Testing methods for processing not valid dto")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = {
             "classpath:database/add-users-to-table.sql",
             "classpath:database/add-projects-to-table.sql"
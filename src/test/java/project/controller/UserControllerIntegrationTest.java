@@ -4,8 +4,11 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
@@ -29,7 +32,6 @@ import org.springframework.http.MediaType;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.init.ScriptUtils;
 import org.springframework.security.crypto.password.PasswordEncoder;
-import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.test.web.servlet.MockMvc;
@@ -43,6 +45,7 @@ import project.dto.user.request.UserUpdatePersonalInfoRequestDto;
 import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserUpdateResponseDto;
 import project.model.User;
+import project.secure.WithAuthenticatedUser;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 public class UserControllerIntegrationTest {
@@ -113,7 +116,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("Get personal info about profile")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void getProfileInfo_ReturnsResponseDto() throws Exception {
@@ -128,9 +131,23 @@ public class UserControllerIntegrationTest {
         EqualsBuilder.reflectionEquals(userResponseDto, actual);
     }
 
+    @Test
+    @DisplayName("Get selected fields of user's profile info")
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
+    @Sql(scripts = "classpath:database/add-users-to-table.sql",
+            executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    public void getProfileFields_FieldsAreAllowed_ReturnsOnlySelectedFields() throws Exception {
+        mockMvc.perform(get("/users/me?fields=username,role"))
+                .andExpect(status().isOk())
+                .andExpect(content().json("{\"username\":\"john123\",\"role\":\"ADMIN\"}",
+                        true));
+        mockMvc.perform(get("/users/me?fields=password"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Update user role by valid dto")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updateUserRole_DtoIsValid_Success() throws Exception {
@@ -151,7 +168,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("Update user role by not valid dto")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updateUserRole_DtoIsNotValid_ReturnsException() throws Exception {
@@ -174,7 +191,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("User tries to update user role")
-    @WithMockUser(username = "bob123")
+    @WithAuthenticatedUser(id = 1, username = "bob123")
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updateUserRole_UserTriesToUpdateRole_ReturnsException() throws Exception {
@@ -190,7 +207,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("Update user personal info by valid dto")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updatePersonalInfo_DtoIsValid_ReturnsResponseDto() throws Exception {
@@ -213,7 +230,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("Update user personal info by not valid dto")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updatePersonalInfo_DtoIsNotValid_ReturnsException() throws Exception {
@@ -243,7 +260,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("Update user password by valid dto")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updatePassword_DtoIsValid_Success() throws Exception {
@@ -252,9 +269,12 @@ public class UserControllerIntegrationTest {
         String jsonRequest =
                 objectMapper.writeValueAsString(userUpdatePasswordRequestDto);
 
-        mockMvc.perform(put("/users/me/password")
+        MvcResult asyncResult = mockMvc.perform(put("/users/me/password")
                         .content(jsonRequest)
                         .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(asyncResult))
                 .andExpect(status().isOk());
         String password = jdbcTemplate.queryForObject(
                 "SELECT password FROM users WHERE id = 3", String.class);
@@ -267,7 +287,7 @@ public class UserControllerIntegrationTest {
 
     @Test
     @DisplayName("Update user password by not valid dto")
-    @WithMockUser(username = "john123", roles = {"ADMIN"})
+    @WithAuthenticatedUser(id = 3, username = "john123", role = User.Role.ADMIN)
     @Sql(scripts = "classpath:database/add-users-to-table.sql",
             executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
     public void updatePassword_DtoIsNotValid_Success() throws Exception {
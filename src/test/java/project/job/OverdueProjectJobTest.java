@@ -0,0 +1,132 @@
+package project.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.model.Project;
+import project.notification.Mail;
+import project.notification.MailQueue;
+import project.repository.ProjectRepository;
+import project.repository.UserRepository;
+import project.repository.projection.OverdueProjectView;
+import project.repository.projection.UserContactView;
+
+@ExtendWith(MockitoExtension.class)
+class OverdueProjectJobTest {
+    private static final LocalDate TODAY = LocalDate.parse("2024-01-10");
+    private static final Limit LIMIT = Limit.of(2);
+    private static final List<Project.Status> STATUSES = List.of(
+            Project.Status.INITIATED, Project.Status.IN_PROGRESS);
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private MailQueue mailQueue;
+    private MeterRegistry meterRegistry;
+    private OverdueProjectJob overdueProjectJob;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        overdueProjectJob = new OverdueProjectJob(projectRepository, userRepository, mailQueue,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2,
+                meterRegistry, Clock.fixed(Instant.parse("2024-01-10T10:00:00Z"),
+                        ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Notify owners with one digest each after scanning overdue projects by keyset")
+    public void notifyOverdueProjects_ProjectsOfThreeOwners_QueuesOneDigestPerOwner()
+            throws Exception {
+        OverdueProjectView second = createView(2L, "project2", "2024-01-05", 1L);
+        OverdueProjectView fourth = createView(4L, "project4", "2024-01-02", 5L);
+        when(projectRepository.findFirstOverdue(Project.Status.INITIATED, TODAY, LIMIT))
+                .thenReturn(List.of(createView(1L, "project1", "2024-01-01", 2L), second));
+        when(projectRepository.findOverdueAfter(Project.Status.INITIATED, TODAY,
+                second.getEndDate(), 2L, LIMIT))
+                .thenReturn(List.of());
+        when(projectRepository.findFirstOverdue(Project.Status.IN_PROGRESS, TODAY, LIMIT))
+                .thenReturn(List.of(createView(3L, "project3", "2024-01-09", 1L), fourth));
+        when(projectRepository.findOverdueAfter(Project.Status.IN_PROGRESS, TODAY,
+                fourth.getEndDate(), 4L, LIMIT))
+                .thenReturn(List.of());
+        when(userRepository.lockOwnersNotNotifiedOn(Set.of(1L, 2L), TODAY))
+                .thenReturn(List.of(1L, 2L));
+        when(userRepository.lockOwnersNotNotifiedOn(Set.of(1L, 5L), TODAY))
+                .thenReturn(List.of(5L));
+        when(projectRepository.findOverdueByUserIdIn(STATUSES, TODAY, List.of(1L, 2L)))
+                .thenReturn(List.of(createView(2L, "project2", "2024-01-05", 1L),
+                        createView(3L, "project3", "2024-01-09", 1L),
+                        createView(1L, "project1", "2024-01-01", 2L)));
+        when(userRepository.findContactsByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                createContact(1L, "bob123"), createContact(2L, "alice123")));
+        when(projectRepository.findOverdueByUserIdIn(STATUSES, TODAY, List.of(5L)))
+                .thenReturn(List.of(fourth));
+        when(userRepository.findContactsByIdIn(List.of(5L)))
+                .thenReturn(List.of(createContact(5L, "carol123")));
+        overdueProjectJob.notifyOverdueProjects();
+
+        verify(userRepository, times(1)).markOverdueNotified(List.of(1L, 2L), TODAY);
+        verify(userRepository, times(1)).markOverdueNotified(List.of(5L), TODAY);
+        ArgumentCaptor<Mail> captor = ArgumentCaptor.forClass(Mail.class);
+        verify(mailQueue, times(3)).submit(captor.capture());
+        Mail bobDigest = captor.getAllValues().get(0);
+        assertEquals("bob123@example.com", bobDigest.to());
+        assertEquals("Overdue projects: 2", bobDigest.subject());
+        assertEquals("Hello, bob123!\n\nThe following projects are past their end date:\n"
+                + "- project2 (ended 2024-01-05)\n"
+                + "- project3 (ended 2024-01-09)\n", bobDigest.text());
+        assertEquals("alice123@example.com", captor.getAllValues().get(1).to());
+        assertEquals("carol123@example.com", captor.getAllValues().get(2).to());
+        assertEquals(4.0, meterRegistry.get("projects.overdue.scanned").counter().count());
+        assertEquals(3.0, meterRegistry.get("projects.overdue.digests").counter().count());
+    }
+
+    @Test
+    @DisplayName("Notify owners when no project is overdue")
+    public void notifyOverdueProjects_NoProjects_QueuesNothing() throws Exception {
+        when(projectRepository.findFirstOverdue(any(), any(), any())).thenReturn(List.of());
+        overdueProjectJob.notifyOverdueProjects();
+
+        verify(mailQueue, never()).submit(any());
+        verify(userRepository, never()).markOverdueNotified(any(), any());
+        assertEquals(1, meterRegistry.get("projects.overdue.scan.runs").timer().count());
+    }
+
+    private OverdueProjectView createView(Long id, String name, String endDate, Long userId) {
+        return new SpelAwareProxyProjectionFactory().createProjection(OverdueProjectView.class,
+                Map.of("id", id, "name", name, "endDate", LocalDate.parse(endDate),
+                        "userId", userId));
+    }
+
+    private UserContactView createContact(Long id, String username) {
+        return new SpelAwareProxyProjectionFactory().createProjection(UserContactView.class,
+                Map.of("id", id, "username", username, "email", username + "@example.com"));
+    }
+}
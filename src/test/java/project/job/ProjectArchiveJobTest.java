@@ -0,0 +1,114 @@
+package project.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.Period;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.repository.ArchivedProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
+import project.repository.UserRepository;
+import project.repository.projection.ProjectOwnerView;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectArchiveJobTest {
+    private static final LocalDate CUTOFF = LocalDate.parse("2023-12-02");
+    @Mock
+    private ArchivedProjectRepository archivedProjectRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ProjectStatusCounterRepository projectStatusCounterRepository;
+    private MeterRegistry meterRegistry;
+    private ProjectArchiveJob projectArchiveJob;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectArchiveJob = new ProjectArchiveJob(archivedProjectRepository, userRepository,
+                projectStatusCounterRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2,
+                Duration.ZERO, Period.ofDays(30), meterRegistry,
+                Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"), ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Archive deleted and long completed projects in chunks")
+    public void archiveProjects_DeletedAndCompleted_MovesBothToArchive() {
+        when(archivedProjectRepository.lockDeleted(2))
+                .thenReturn(List.of(createView(1L, 1L), createView(2L, 2L)))
+                .thenReturn(List.of());
+        when(archivedProjectRepository.lockCompletedEndedBefore(CUTOFF, 2))
+                .thenReturn(List.of(createView(3L, 1L)));
+        projectArchiveJob.archiveProjects();
+
+        verify(archivedProjectRepository, times(1)).copyToArchive(List.of(1L, 2L));
+        verify(archivedProjectRepository, times(1)).deleteFromHotTable(List.of(1L, 2L));
+        verify(archivedProjectRepository, times(1)).copyToArchive(List.of(3L));
+        verify(archivedProjectRepository, times(1)).deleteFromHotTable(List.of(3L));
+        verify(userRepository, never()).incrementProjectsVersionByIdIn(Set.of(1L, 2L));
+        verify(userRepository, times(1)).incrementProjectsVersionByIdIn(Set.of(1L));
+        verify(projectStatusCounterRepository, times(1)).add(1L, 0, 0, -1);
+        assertEquals(2.0, meterRegistry.get("projects.archived").tag("reason", "deleted")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("projects.archived").tag("reason", "completed")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Archived completed projects are excluded from their owners' summary counts")
+    public void archiveProjects_CompletedProjects_RemovedFromOwnersCompletedCounts() {
+        when(archivedProjectRepository.lockDeleted(2)).thenReturn(List.of());
+        when(archivedProjectRepository.lockCompletedEndedBefore(CUTOFF, 2))
+                .thenReturn(List.of(createView(1L, 1L), createView(2L, 1L)))
+                .thenReturn(List.of(createView(3L, 2L)));
+        projectArchiveJob.archiveProjects();
+
+        verify(projectStatusCounterRepository, times(1)).add(1L, 0, 0, -2);
+        verify(projectStatusCounterRepository, times(1)).add(2L, 0, 0, -1);
+        verify(userRepository, times(1)).incrementProjectsVersionByIdIn(Set.of(1L));
+        verify(userRepository, times(1)).incrementProjectsVersionByIdIn(Set.of(2L));
+    }
+
+    @Test
+    @DisplayName("Archiving deleted projects leaves summary counts untouched")
+    public void archiveProjects_DeletedProjects_CountsUnchanged() {
+        when(archivedProjectRepository.lockDeleted(2))
+                .thenReturn(List.of(createView(1L, 1L)));
+        when(archivedProjectRepository.lockCompletedEndedBefore(CUTOFF, 2))
+                .thenReturn(List.of());
+        projectArchiveJob.archiveProjects();
+
+        verifyNoInteractions(projectStatusCounterRepository);
+        verify(userRepository, never()).incrementProjectsVersionByIdIn(any());
+    }
+
+    private ProjectOwnerView createView(Long id, Long userId) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ProjectOwnerView.class,
+                Map.of("id", id, "userId", userId));
+    }
+}
@@ -0,0 +1,89 @@
+package project.job;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.model.Project;
+import project.repository.ProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
+import project.repository.UserRepository;
+import project.repository.projection.ProjectOwnerView;
+
+@ExtendWith(MockitoExtension.class)
+class ProjectStatusJobTest {
+    private static final LocalDate TODAY = LocalDate.parse("2024-01-01");
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ProjectStatusCounterRepository projectStatusCounterRepository;
+    private MeterRegistry meterRegistry;
+    private ProjectStatusJob projectStatusJob;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        projectStatusJob = new ProjectStatusJob(projectRepository, userRepository,
+                projectStatusCounterRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2,
+                meterRegistry, Clock.fixed(Instant.parse("2024-01-01T10:00:00Z"),
+                        ZoneOffset.UTC));
+    }
+
+    @Test
+    @DisplayName("Advance started projects in chunks until a chunk is not full")
+    public void advanceStartedProjects_TwoChunks_AdvancesAllProjects() {
+        when(projectRepository.lockInitiatedStartedBy(TODAY, 2))
+                .thenReturn(List.of(createView(1L, 1L), createView(2L, 2L)))
+                .thenReturn(List.of(createView(3L, 1L)));
+        projectStatusJob.advanceStartedProjects();
+
+        verify(projectRepository, times(1))
+                .updateStatusByIdIn(List.of(1L, 2L), Project.Status.IN_PROGRESS);
+        verify(projectRepository, times(1))
+                .updateStatusByIdIn(List.of(3L), Project.Status.IN_PROGRESS);
+        verify(userRepository, times(1)).incrementProjectsVersionByIdIn(Set.of(1L, 2L));
+        verify(userRepository, times(1)).incrementProjectsVersionByIdIn(Set.of(1L));
+        verify(projectStatusCounterRepository, times(2)).add(1L, -1, 1, 0);
+        verify(projectStatusCounterRepository, times(1)).add(2L, -1, 1, 0);
+        assertEquals(3.0, meterRegistry.get("projects.status.advanced").counter().count());
+    }
+
+    @Test
+    @DisplayName("Advance started projects when there is nothing to advance")
+    public void advanceStartedProjects_NoProjects_DoesNothing() {
+        when(projectRepository.lockInitiatedStartedBy(TODAY, 2)).thenReturn(List.of());
+        projectStatusJob.advanceStartedProjects();
+
+        verify(projectRepository, times(0)).updateStatusByIdIn(List.of(),
+                Project.Status.IN_PROGRESS);
+        assertEquals(1, meterRegistry.get("projects.status.advance.runs").timer().count());
+    }
+
+    private ProjectOwnerView createView(Long id, Long userId) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ProjectOwnerView.class,
+                Map.of("id", id, "userId", userId));
+    }
+}
@@ -0,0 +1,73 @@
+package project.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MailQueueTest {
+    private static final Mail MAIL = new Mail("bob@example.com", "subject", "text");
+    private final List<Mail> outbox = new CopyOnWriteArrayList<>();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private MailQueue mailQueue;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        mailQueue = new MailQueue(mail -> {
+            if (failuresLeft.getAndDecrement() > 0) {
+                throw new IllegalStateException("Connection refused");
+            }
+            outbox.add(mail);
+        }, 1, 1, 3, Duration.ofMillis(1), meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mailQueue.shutdown();
+    }
+
+    @Test
+    @DisplayName("Submit mail that is sent after a retry")
+    public void submit_MailerFailsOnce_SendsMail() throws Exception {
+        failuresLeft.set(1);
+        mailQueue.submit(MAIL).get();
+
+        assertEquals(List.of(MAIL), outbox);
+        assertEquals(1.0, meterRegistry.get("notifications.mail.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("notifications.mail.sent").counter().count());
+    }
+
+    @Test
+    @DisplayName("Submit mail when every attempt fails")
+    public void submit_MailerAlwaysFails_CompletesExceptionally() {
+        failuresLeft.set(Integer.MAX_VALUE);
+
+        assertThrows(ExecutionException.class, () -> mailQueue.submit(MAIL).get());
+        assertEquals(List.of(), outbox);
+        assertEquals(2.0, meterRegistry.get("notifications.mail.retried").counter().count());
+        assertEquals(1.0, meterRegistry.get("notifications.mail.failed").counter().count());
+    }
+
+    @Test
+    @DisplayName("Submit more mails than the queue holds")
+    public void submit_QueueIsFull_WaitsForCapacity() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mailQueue.submit(MAIL);
+        }
+        mailQueue.submit(MAIL).get();
+
+        assertEquals(6, outbox.size());
+    }
+}
@@ -0,0 +1,52 @@
+package project.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.jdbc.Sql;
+import project.model.ArchivedProject;
+import project.repository.projection.ProjectOwnerView;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ArchivedProjectRepositoryTest {
+    @Autowired
+    private ArchivedProjectRepository archivedProjectRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Test
+    @DisplayName("Move completed and deleted projects from the hot table to the archive")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void copyToArchive_CompletedAndDeletedProjects_MovesThemToArchive() {
+        projectRepository.softDeleteByIdAndUserId(1L, 1L);
+        List<ProjectOwnerView> deleted = archivedProjectRepository.lockDeleted(10);
+        List<ProjectOwnerView> completed = archivedProjectRepository
+                .lockCompletedEndedBefore(LocalDate.now().plusDays(1), 10);
+
+        assertEquals(List.of(1L), deleted.stream().map(ProjectOwnerView::getId).toList());
+        assertEquals(List.of(2L), completed.stream().map(ProjectOwnerView::getId).toList());
+        assertEquals(2, archivedProjectRepository.copyToArchive(List.of(1L, 2L)));
+        assertEquals(2, archivedProjectRepository.deleteFromHotTable(List.of(1L, 2L)));
+        assertFalse(projectRepository.existsById(2L));
+        List<ArchivedProject> archived = archivedProjectRepository.findAllByUserId(1L,
+                PageRequest.of(0, 10));
+        assertEquals(1, archived.size());
+        assertEquals(2L, archived.get(0).getId());
+        assertTrue(archivedProjectRepository.findById(1L).orElseThrow().isDeleted());
+    }
+}
@@ -1,23 +1,34 @@
 package project.repository;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import jakarta.persistence.EntityManagerFactory;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.jdbc.Sql;
 import project.model.Project;
+import project.repository.projection.ProjectOwnerView;
+import project.repository.projection.ProjectView;
 
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
 public class ProjectRepositoryTest {
     @Autowired
     private ProjectRepository projectRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     @DisplayName("Find projects by user id when user has projects")
@@ -29,7 +40,7 @@ public class ProjectRepositoryTest {
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void findProjectsByUserId_UserHasProjects_ReturnsFourProjects() {
         Long userId = 1L;
-        List<Project> projects = projectRepository.findAllByUserIdWithSorting(
+        List<ProjectView> projects = projectRepository.findAllByUserIdWithSorting(
                 userId, PageRequest.of(0, 10));
 
         assertEquals(projects.size(), 4);
@@ -39,6 +50,24 @@ public class ProjectRepositoryTest {
         assertEquals(projects.get(3).getId(), 2L);
     }
 
+    @Test
+    @DisplayName("Find selected fields of projects by user id")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findFieldsByUserId_UserHasProjects_ReturnsOnlySelectedFields() {
+        List<Map<String, Object>> projects = projectRepository.findFieldsByUserId(1L,
+                List.of("name", "status", "userId"), PageRequest.of(0, 2));
+
+        assertEquals(List.of(
+                Map.of("name", "project5", "status", Project.Status.INITIATED, "userId", 1L),
+                Map.of("name", "project3", "status", Project.Status.IN_PROGRESS,
+                        "userId", 1L)), projects);
+    }
+
     @Test
     @DisplayName("Find projects by user id when user does not have projects")
     @Sql(scripts = {
@@ -49,9 +78,115 @@ public class ProjectRepositoryTest {
             executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
     void findProjectsByUserId_UserDoesNotHaveProjects_ReturnsEmptyList() {
         Long userId = 3L;
-        List<Project> projects = projectRepository.findAllByUserIdWithSorting(
+        List<ProjectView> projects = projectRepository.findAllByUserIdWithSorting(
                 userId, PageRequest.of(0, 10));
 
         assertTrue(projects.isEmpty());
     }
+
+    @Test
+    @DisplayName("Find projects page after cursor position")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findPageByUserIdAfter_CursorInMiddle_ReturnsRemainingProjects() {
+        Long userId = 1L;
+        List<ProjectView> firstPage = projectRepository.findFirstPageByUserId(
+                userId, Limit.of(2));
+        ProjectView last = firstPage.get(1);
+        List<ProjectView> projects = projectRepository.findPageByUserIdAfter(
+                userId, last.getStatusRank(), last.getId(), Limit.of(10));
+
+        assertEquals(2, projects.size());
+        assertEquals(1L, projects.get(0).getId());
+        assertEquals(2L, projects.get(1).getId());
+    }
+
+    @Test
+    @DisplayName("Soft delete project scoped by owner")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void softDeleteByIdAndUserId_OwnerAndStranger_DeletesOnlyForOwner() {
+        assertEquals(0, projectRepository.softDeleteByIdAndUserId(1L, 2L));
+        assertTrue(projectRepository.findByIdAndUserId(1L, 1L).isPresent());
+
+        assertEquals(1, projectRepository.softDeleteByIdAndUserId(1L, 1L));
+        assertTrue(projectRepository.findByIdAndUserId(1L, 1L).isEmpty());
+        assertFalse(projectRepository.existsById(1L));
+    }
+
+    @Test
+    @DisplayName("Patch only the given columns of a project with a version guard")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void patchByIdAndUserId_DescriptionChanged_UpdatesDescriptionAndVersion() {
+        ProjectView before = projectRepository.findByIdAndUserId(1L, 1L).orElseThrow();
+
+        assertEquals(0, projectRepository.patchByIdAndUserId(1L, 2L,
+                Map.of("description", "patched"), null));
+        assertEquals(0, projectRepository.patchByIdAndUserId(1L, 1L,
+                Map.of("description", "patched"), before.getVersion() + 1));
+        assertEquals(1, projectRepository.patchByIdAndUserId(1L, 1L,
+                Map.of("description", "patched"), before.getVersion()));
+        ProjectView after = projectRepository.findByIdAndUserId(1L, 1L).orElseThrow();
+        assertEquals("patched", after.getDescription());
+        assertEquals(before.getName(), after.getName());
+        assertEquals(before.getVersion() + 1, after.getVersion());
+    }
+
+    @Test
+    @DisplayName("Lock and advance initiated projects whose start date has come")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void lockInitiatedStartedBy_OneProjectStarted_ReturnsAndAdvancesIt() {
+        assertTrue(projectRepository.lockInitiatedStartedBy(
+                LocalDate.now().minusDays(1), 10).isEmpty());
+        List<ProjectOwnerView> projects = projectRepository.lockInitiatedStartedBy(
+                LocalDate.now(), 10);
+
+        assertEquals(1, projects.size());
+        assertEquals(5L, projects.get(0).getId());
+        assertEquals(1L, projects.get(0).getUserId());
+        assertEquals(1, projectRepository.updateStatusByIdIn(List.of(5L),
+                Project.Status.IN_PROGRESS));
+        assertTrue(projectRepository.lockInitiatedStartedBy(LocalDate.now(), 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Find projects page with a single statement and no user fetches")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void findProjectsByUserId_ProjectionQuery_ExecutesOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<ProjectView> projects = projectRepository.findAllByUserIdWithSorting(
+                1L, PageRequest.of(0, 10));
+        projects.forEach(ProjectView::getUserId);
+        projectRepository.findByIdAndUserId(1L, 1L);
+
+        assertEquals(4, projects.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
 }
@@ -0,0 +1,44 @@
+package project.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.jdbc.Sql;
+import project.model.Project;
+import project.model.ProjectStatusCounter;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ProjectStatusCounterRepositoryTest {
+    @Autowired
+    private ProjectStatusCounterRepository projectStatusCounterRepository;
+
+    @Test
+    @DisplayName("Reconcile drifted counters and apply deltas")
+    @Sql(scripts = {
+            "classpath:database/add-users-to-table.sql",
+            "classpath:database/add-projects-to-table.sql"
+    }, executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+    @Sql(scripts = "classpath:database/remove-all-tables.sql",
+            executionPhase = Sql.ExecutionPhase.AFTER_TEST_METHOD)
+    void reconcile_CountersDrifted_RestoresActualCounts() {
+        projectStatusCounterRepository.add(1L, 10, 0, 0);
+        List<Long> userIds = projectStatusCounterRepository.findUserIdsAfter(0L, 10);
+        projectStatusCounterRepository.reconcile(userIds.get(0),
+                userIds.get(userIds.size() - 1));
+        projectStatusCounterRepository.add(1L, Project.Status.COMPLETED, 2);
+
+        ProjectStatusCounter counter = projectStatusCounterRepository.findById(1L)
+                .orElseThrow();
+        assertEquals(1, counter.getInitiated());
+        assertEquals(2, counter.getInProgress());
+        assertEquals(3, counter.getCompleted());
+        assertEquals(1, projectStatusCounterRepository.findById(2L).orElseThrow()
+                .getInProgress());
+    }
+}
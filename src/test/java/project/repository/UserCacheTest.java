@@ -0,0 +1,67 @@
+package project.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import project.config.CacheConfig;
+import project.model.User;
+
+class UserCacheTest {
+    private CacheManager cacheManager;
+    private UserRepository userRepository;
+    private UserCache userCache;
+    private User user;
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_BY_ID,
+                CacheConfig.USERS_BY_USERNAME, CacheConfig.USERS_BY_EMAIL);
+        userRepository = mock(UserRepository.class);
+        userCache = new UserCache(cacheManager, userRepository);
+        user = new User()
+                .setId(1L)
+                .setUsername("Bob123")
+                .setEmail("Bob@email.com");
+    }
+
+    @Test
+    @DisplayName("Find user returns copies so callers cannot change the cached user")
+    public void findByUsername_CallerChangesResult_CachedUserIsUnchanged() {
+        when(userRepository.findByUsername("Bob123")).thenReturn(Optional.of(user));
+        User loaded = userCache.findByUsername("Bob123").orElseThrow();
+        loaded.setRole(User.Role.ADMIN);
+        User cached = userCache.findByUsername("bob123").orElseThrow();
+
+        assertEquals(User.Role.USER, cached.getRole());
+        assertNotSame(loaded, cached);
+        assertNotSame(user, cached);
+        verify(userRepository, times(1)).findByUsername("Bob123");
+    }
+
+    @Test
+    @DisplayName("Evict user from all key spaces")
+    public void evict_UserIsCached_RemovesAllKeys() {
+        cacheManager.getCache(CacheConfig.USERS_BY_ID).put(1L, user);
+        cacheManager.getCache(CacheConfig.USERS_BY_USERNAME).put("bob123", user);
+        cacheManager.getCache(CacheConfig.USERS_BY_EMAIL).put("bob@email.com", user);
+        cacheManager.getCache(CacheConfig.USERS_BY_ID).put(2L, new User().setId(2L));
+        userCache.evict(user);
+
+        assertNull(cacheManager.getCache(CacheConfig.USERS_BY_ID).get(1L));
+        assertNull(cacheManager.getCache(CacheConfig.USERS_BY_USERNAME).get("bob123"));
+        assertNull(cacheManager.getCache(CacheConfig.USERS_BY_EMAIL).get("bob@email.com"));
+        assertNotNull(cacheManager.getCache(CacheConfig.USERS_BY_ID).get(2L));
+    }
+}
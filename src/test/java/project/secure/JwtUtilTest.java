@@ -0,0 +1,67 @@
+package project.secure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.model.User;
+
+class JwtUtilTest {
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha";
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET, 60_000);
+    }
+
+    @Test
+    @DisplayName("Check token validity")
+    public void isValidToken_TokenIsTamperedOrMalformed_ReturnsFalse() {
+        String token = jwtUtil.generateToken(new User()
+                .setId(1L)
+                .setUsername("bob123")
+                .setRole(User.Role.USER));
+
+        assertTrue(jwtUtil.isValidToken(token));
+        assertFalse(jwtUtil.isValidToken(token.substring(0, token.length() - 2)));
+        assertFalse(jwtUtil.isValidToken("not-a-token"));
+    }
+
+    @Test
+    @DisplayName("Get authenticated user from token with all claims")
+    public void getAuthenticatedUser_TokenHasClaims_ReturnsUser() {
+        User user = new User()
+                .setId(1L)
+                .setUsername("bob123")
+                .setRole(User.Role.ADMIN)
+                .setTokenVersion(2);
+        Claims claims = jwtUtil.parseClaims(jwtUtil.generateToken(user));
+
+        assertEquals(new AuthenticatedUser(1L, "bob123", User.Role.ADMIN, 2),
+                jwtUtil.getAuthenticatedUser(claims));
+    }
+
+    @Test
+    @DisplayName("Get authenticated user from token signed before user claims were added")
+    public void getAuthenticatedUser_TokenHasOnlySubject_ReturnsException() {
+        String token = Jwts.builder()
+                .setSubject("bob123")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+        Claims claims = jwtUtil.parseClaims(token);
+
+        assertThrows(JwtException.class, () -> jwtUtil.getAuthenticatedUser(claims));
+    }
+}
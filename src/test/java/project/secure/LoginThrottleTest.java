@@ -0,0 +1,152 @@
+package project.secure;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.exception.TooManyRequestsException;
+
+class LoginThrottleTest {
+    private static final String IP = "10.0.0.1";
+    private MeterRegistry meterRegistry;
+    private MutableClock clock;
+    private LoginThrottle loginThrottle;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new MutableClock();
+        loginThrottle = new LoginThrottle(2, Duration.ofSeconds(1), Duration.ofSeconds(10),
+                Duration.ofMinutes(30), 1000, meterRegistry, clock);
+    }
+
+    @Test
+    @DisplayName("Check attempts within free limit")
+    public void check_FailuresWithinFreeAttempts_Success() {
+        loginThrottle.recordFailure("bob123", IP);
+        loginThrottle.recordFailure("bob123", IP);
+
+        assertDoesNotThrow(() -> loginThrottle.check("bob123", IP));
+    }
+
+    @Test
+    @DisplayName("Check account after too many failures with progressive back-off")
+    public void check_TooManyFailures_ReturnsExceptionWithGrowingDelay() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("Bob123", IP);
+        }
+        TooManyRequestsException first = assertThrows(TooManyRequestsException.class,
+                () -> loginThrottle.check("bob123", "10.0.0.2"));
+        loginThrottle.recordFailure("bob123", IP);
+        TooManyRequestsException second = assertThrows(TooManyRequestsException.class,
+                () -> loginThrottle.check("bob123", "10.0.0.2"));
+
+        assertEquals(1, first.getRetryAfterSeconds());
+        assertEquals(2, second.getRetryAfterSeconds());
+        assertEquals(2.0, meterRegistry.get("auth.throttled").tag("scope", "account")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Check another account from the throttled ip")
+    public void check_IpIsThrottled_ReturnsException() {
+        loginThrottle.recordFailure("bob123", IP);
+        loginThrottle.recordFailure("alice123", IP);
+        loginThrottle.recordFailure("john123", IP);
+
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.check("kate123", IP));
+        assertEquals(1.0, meterRegistry.get("auth.throttled").tag("scope", "ip")
+                .counter().count());
+    }
+
+    @Test
+    @DisplayName("Check account after back-off delay passed")
+    public void check_DelayPassed_Success() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("bob123", IP);
+        }
+        clock.advance(Duration.ofSeconds(2));
+
+        assertDoesNotThrow(() -> loginThrottle.check("bob123", IP));
+    }
+
+    @Test
+    @DisplayName("Check account after successful login")
+    public void check_SuccessfulLoginResetsAccount_Success() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordFailure("bob123", "10.0.0." + i);
+        }
+        loginThrottle.recordSuccess("bob123");
+
+        assertDoesNotThrow(() -> loginThrottle.check("bob123", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("Check registration after successful sign-ups from one ip")
+    public void checkRegistration_TooManyAttemptsFromIp_ReturnsException() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordRegistration("user" + i, "user" + i + "@mail.com", IP);
+        }
+
+        assertThrows(TooManyRequestsException.class,
+                () -> loginThrottle.checkRegistration("user9", "user9@mail.com", IP));
+        assertDoesNotThrow(() -> loginThrottle.check("bob123", IP));
+    }
+
+    @Test
+    @DisplayName("Check registration of the same email from different ips")
+    public void checkRegistration_TooManyAttemptsForEmail_ReturnsException() {
+        for (int i = 0; i < 3; i++) {
+            loginThrottle.recordRegistration("user" + i, "Bob@mail.com", "10.0.0." + i);
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> loginThrottle.checkRegistration(
+                "user9", "bob@mail.com", "10.0.0.9"));
+    }
+
+    @Test
+    @DisplayName("Record failures for more accounts than the throttle keeps")
+    public void recordFailure_ManyAccounts_EvictsOldestEntries() {
+        loginThrottle = new LoginThrottle(0, Duration.ofSeconds(1), Duration.ofSeconds(10),
+                Duration.ofMinutes(30), 64, meterRegistry, clock);
+        loginThrottle.recordFailure("bob123", IP);
+        for (int i = 0; i < 10_000; i++) {
+            loginThrottle.recordFailure("user" + i, "10.0.1.1");
+        }
+
+        assertDoesNotThrow(() -> loginThrottle.check("bob123", "10.0.0.9"));
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
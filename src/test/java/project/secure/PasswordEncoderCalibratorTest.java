@@ -0,0 +1,62 @@
+package project.secure;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+class PasswordEncoderCalibratorTest {
+    private static final String PASSWORD = "Password123!!!";
+
+    @Test
+    @DisplayName("Create encoder with bcrypt as default algorithm")
+    public void createEncoder_AlgorithmIsBcrypt_EncodesWithPrefix() {
+        PasswordEncoder encoder = new PasswordEncoderCalibrator("bcrypt", Duration.ofMillis(1))
+                .createEncoder();
+        String encoded = encoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("{bcrypt}"));
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertFalse(encoder.upgradeEncoding(encoded));
+    }
+
+    @Test
+    @DisplayName("Match legacy hash without algorithm prefix")
+    public void createEncoder_HashHasNoPrefix_MatchesAndRequiresUpgrade() {
+        PasswordEncoder encoder = new PasswordEncoderCalibrator("bcrypt", Duration.ofMillis(1))
+                .createEncoder();
+        String legacyHash = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertTrue(encoder.matches(PASSWORD, legacyHash));
+        assertTrue(encoder.upgradeEncoding(legacyHash));
+        assertTrue(encoder.upgradeEncoding("{bcrypt}" + legacyHash));
+    }
+
+    @Test
+    @DisplayName("Create encoder with argon2 and verify existing bcrypt hashes")
+    public void createEncoder_AlgorithmIsArgon2_MatchesOtherAlgorithms() {
+        PasswordEncoder encoder = new PasswordEncoderCalibrator("argon2", Duration.ofMillis(1))
+                .createEncoder();
+        String bcryptHash = "{bcrypt}" + new BCryptPasswordEncoder(4).encode(PASSWORD);
+        String encoded = encoder.encode(PASSWORD);
+
+        assertTrue(encoded.startsWith("{argon2}"));
+        assertTrue(encoder.matches(PASSWORD, encoded));
+        assertTrue(encoder.matches(PASSWORD, bcryptHash));
+        assertTrue(encoder.upgradeEncoding(bcryptHash));
+    }
+
+    @Test
+    @DisplayName("Create encoder with unsupported algorithm")
+    public void createEncoder_AlgorithmIsUnsupported_ReturnsException() {
+        PasswordEncoderCalibrator calibrator =
+                new PasswordEncoderCalibrator("md5", Duration.ofMillis(1));
+
+        assertThrows(IllegalStateException.class, calibrator::createEncoder);
+    }
+}
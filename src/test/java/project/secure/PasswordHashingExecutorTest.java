@@ -0,0 +1,68 @@
+package project.secure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.exception.DataEditingException;
+import project.exception.ServiceOverloadedException;
+
+class PasswordHashingExecutorTest {
+    private MeterRegistry meterRegistry;
+    private PasswordHashingExecutor passwordHashingExecutor;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        passwordHashingExecutor = new PasswordHashingExecutor(1, 1, 5, meterRegistry);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        passwordHashingExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Submit task when pool has free capacity")
+    public void submit_PoolIsNotFull_ReturnsTaskResult() throws Exception {
+        CompletableFuture<String> actual = passwordHashingExecutor.submit(() -> "hash");
+
+        assertEquals("hash", actual.get());
+    }
+
+    @Test
+    @DisplayName("Submit task that throws checked exception")
+    public void submit_TaskThrowsException_CompletesExceptionally() {
+        CompletableFuture<String> actual = passwordHashingExecutor.submit(() -> {
+            throw new DataEditingException("The current password is incorrect");
+        });
+
+        Exception exception = assertThrows(ExecutionException.class, actual::get);
+        assertEquals(DataEditingException.class, exception.getCause().getClass());
+    }
+
+    @Test
+    @DisplayName("Submit task when pool and queue are full")
+    public void submit_QueueIsFull_ReturnsException() {
+        CountDownLatch latch = new CountDownLatch(1);
+        passwordHashingExecutor.submit(() -> {
+            latch.await();
+            return null;
+        });
+        passwordHashingExecutor.submit(() -> null);
+
+        ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+                () -> passwordHashingExecutor.submit(() -> null));
+        latch.countDown();
+        assertEquals(5, exception.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("password.hashing.rejected").counter().count());
+    }
+}
@@ -0,0 +1,63 @@
+package project.secure;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Date;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.model.User;
+
+class VerifiedTokenCacheTest {
+    private MeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AuthenticatedUser user;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(100, meterRegistry);
+        user = new AuthenticatedUser(1L, "bob123", User.Role.USER, 0);
+    }
+
+    @Test
+    @DisplayName("Get cached principal by verified token")
+    public void get_TokenIsCached_ReturnsPrincipal() {
+        verifiedTokenCache.put("token", user, new Date(System.currentTimeMillis() + 60_000));
+        AuthenticatedUser actual = verifiedTokenCache.get("token");
+
+        assertEquals(user, actual);
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", "jwt.tokens")
+                .tag("result", "hit")
+                .functionCounter()
+                .count());
+    }
+
+    @Test
+    @DisplayName("Get principal by expired token")
+    public void get_TokenIsExpired_ReturnsNull() {
+        verifiedTokenCache.put("token", user, new Date(System.currentTimeMillis() - 1));
+
+        assertNull(verifiedTokenCache.get("token"));
+    }
+
+    @Test
+    @DisplayName("Invalidate all cached tokens of the user")
+    public void invalidate_UserHasCachedTokens_RemovesOnlyUsersTokens() {
+        Date expiration = new Date(System.currentTimeMillis() + 60_000);
+        verifiedTokenCache.put("token1", user, expiration);
+        verifiedTokenCache.put("token2", user, expiration);
+        verifiedTokenCache.put("token3",
+                new AuthenticatedUser(2L, "alice123", User.Role.USER, 0), expiration);
+        verifiedTokenCache.invalidate(1L);
+
+        assertNull(verifiedTokenCache.get("token1"));
+        assertNull(verifiedTokenCache.get("token2"));
+        assertNotNull(verifiedTokenCache.get("token3"));
+    }
+}
@@ -0,0 +1,19 @@
+package project.secure;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.test.context.support.WithSecurityContextFactory;
+
+public class WithAuthenticatedUserSecurityContextFactory
+        implements WithSecurityContextFactory<WithAuthenticatedUser> {
+    @Override
+    public SecurityContext createSecurityContext(WithAuthenticatedUser annotation) {
+        AuthenticatedUser user = new AuthenticatedUser(annotation.id(), annotation.username(),
+                annotation.role(), 0);
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, null, user.getAuthorities()));
+        return context;
+    }
+}
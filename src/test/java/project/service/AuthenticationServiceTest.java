@@ -4,6 +4,9 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Optional;
@@ -15,8 +18,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.core.Authentication;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
 import project.dto.user.request.UserLoginRequestDto;
@@ -26,9 +28,12 @@ import project.dto.user.response.UserTokenResponseDto;
 import project.exception.AuthenticationException;
 import project.mapper.UserMapper;
 import project.model.User;
+import project.repository.UserCache;
+import project.repository.UserIdentifierFilter;
 import project.repository.UserRepository;
 import project.secure.AuthenticationService;
 import project.secure.JwtUtil;
+import project.secure.PasswordHashingExecutor;
 
 @ExtendWith(MockitoExtension.class)
 class AuthenticationServiceTest {
@@ -41,9 +46,11 @@ class AuthenticationServiceTest {
     @Mock
     private JwtUtil jwtUtil;
     @Mock
-    private Authentication authentication;
+    private PasswordHashingExecutor passwordHashingExecutor;
     @Mock
-    private AuthenticationManager authenticationManager;
+    private UserCache userCache;
+    @Mock
+    private UserIdentifierFilter userIdentifierFilter;
     @InjectMocks
     private AuthenticationService authenticationService;
     private UserRegistrationRequestDto userRegistrationRequestDto;
@@ -85,26 +92,58 @@ class AuthenticationServiceTest {
             throws AuthenticationException {
         User userWithoutId = user.setId(null);
         
-        when(userRepository.findByUsername(userRegistrationRequestDto.getUsername()))
-                .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(userRegistrationRequestDto.getEmail()))
-                .thenReturn(Optional.empty());
+        when(userIdentifierFilter.mightBeTaken(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmail(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(false);
         when(userMapper.toModel(userRegistrationRequestDto)).thenReturn(userWithoutId);
         when(passwordEncoder.encode(userWithoutId.getPassword())).thenReturn(any());
-        when(userRepository.save(userWithoutId)).thenReturn(user);
+        when(userRepository.saveAndFlush(userWithoutId)).thenReturn(user);
         when(userMapper.toDto(user)).thenReturn(userResponseDto);
         UserResponseDto actual =
                 authenticationService.register(userRegistrationRequestDto, true);
         
         Assertions.assertNotNull(actual);
         EqualsBuilder.reflectionEquals(userResponseDto, actual);
+        verify(userIdentifierFilter, times(1)).add(user.getUsername(), user.getEmail());
+    }
+    
+    @Test
+    @DisplayName("Registration of a new user when username and email are definitely free")
+    public void register_IdentifiersAreNotInFilter_SkipsExistenceQuery()
+            throws AuthenticationException {
+        when(userIdentifierFilter.mightBeTaken(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(false);
+        when(userMapper.toModel(userRegistrationRequestDto)).thenReturn(user);
+        when(userRepository.saveAndFlush(user)).thenReturn(user);
+        when(userMapper.toDto(user)).thenReturn(userResponseDto);
+        authenticationService.register(userRegistrationRequestDto, false);
+        
+        verify(userRepository, times(0)).existsByUsernameOrEmail(
+                userRegistrationRequestDto.getUsername(), userRegistrationRequestDto.getEmail());
+    }
+    
+    @Test
+    @DisplayName("Registration of a new user when a concurrent registration took the username")
+    public void register_UniqueConstraintIsViolated_ReturnsException() {
+        when(userIdentifierFilter.mightBeTaken(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(false);
+        when(userMapper.toModel(userRegistrationRequestDto)).thenReturn(user);
+        when(userRepository.saveAndFlush(user))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        
+        Exception exception = assertThrows(AuthenticationException.class,
+                () -> authenticationService.register(userRegistrationRequestDto, false));
+        assertEquals("Unable to complete registration!", exception.getMessage());
     }
     
     @Test
     @DisplayName("Registration of a new user when there is already a user with this email")
     public void register_UserWithThisEmailAlreadyExist_ReturnsException() {
-        when(userRepository.findByEmail(userRegistrationRequestDto.getEmail()))
-                .thenReturn(Optional.of(user));
+        when(userIdentifierFilter.mightBeTaken(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmail(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(true);
         
         Exception exception = assertThrows(AuthenticationException.class,
                 () -> authenticationService.register(userRegistrationRequestDto, false));
@@ -114,8 +153,10 @@ class AuthenticationServiceTest {
     @Test
     @DisplayName("Registration of a new user when there is already a user with this username")
     public void register_UserWithThisUsernameAlreadyExist_ReturnsException() {
-        when(userRepository.findByUsername(userRegistrationRequestDto.getUsername()))
-                .thenReturn(Optional.of(user));
+        when(userIdentifierFilter.mightBeTaken(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmail(userRegistrationRequestDto.getUsername(),
+                userRegistrationRequestDto.getEmail())).thenReturn(true);
         
         Exception exception = assertThrows(AuthenticationException.class,
                 () -> authenticationService.register(userRegistrationRequestDto, false));
@@ -128,16 +169,37 @@ class AuthenticationServiceTest {
         userLoginRequestDto.setEmailOrUsername("bob123");
         String token = "token";
         
-        when(userRepository.findByUsername(userLoginRequestDto.getEmailOrUsername()))
+        when(userCache.findByUsername(userLoginRequestDto.getEmailOrUsername()))
                 .thenReturn(Optional.of(user));
         when(passwordEncoder.matches(userLoginRequestDto.getPassword(), user.getPassword()))
                 .thenReturn(true);
-        when(authenticationManager.authenticate(any())).thenReturn(authentication);
-        when(jwtUtil.generateToken(authentication.getName())).thenReturn(token);
+        when(jwtUtil.generateToken(user)).thenReturn(token);
         UserTokenResponseDto actual = authenticationService.login(userLoginRequestDto);
         
         assertNotNull(actual);
         assertEquals(token, actual.getToken());
+        verify(userCache, times(1)).findByUsername(userLoginRequestDto.getEmailOrUsername());
+        verify(passwordEncoder, times(1)).matches(userLoginRequestDto.getPassword(),
+                user.getPassword());
+        verify(passwordEncoder, times(1)).upgradeEncoding(user.getPassword());
+        verifyNoMoreInteractions(userRepository, passwordEncoder, passwordHashingExecutor);
+    }
+    
+    @Test
+    @DisplayName("User log in when stored password hash is outdated")
+    public void login_PasswordHashIsOutdated_SchedulesHashUpgrade()
+            throws AuthenticationException {
+        userLoginRequestDto.setEmailOrUsername("bob123");
+        
+        when(userCache.findByUsername(userLoginRequestDto.getEmailOrUsername()))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches(userLoginRequestDto.getPassword(), user.getPassword()))
+                .thenReturn(true);
+        when(passwordEncoder.upgradeEncoding(user.getPassword())).thenReturn(true);
+        when(jwtUtil.generateToken(user)).thenReturn("token");
+        authenticationService.login(userLoginRequestDto);
+        
+        verify(passwordHashingExecutor, times(1)).submit(any());
     }
     
     @Test
@@ -146,12 +208,11 @@ class AuthenticationServiceTest {
         userLoginRequestDto.setEmailOrUsername("bob@email.com");
         String token = "token";
         
-        when(userRepository.findByEmail(userLoginRequestDto.getEmailOrUsername()))
+        when(userCache.findByEmail(userLoginRequestDto.getEmailOrUsername()))
                 .thenReturn(Optional.of(user));
         when(passwordEncoder.matches(userLoginRequestDto.getPassword(), user.getPassword()))
                 .thenReturn(true);
-        when(authenticationManager.authenticate(any())).thenReturn(authentication);
-        when(jwtUtil.generateToken(authentication.getName())).thenReturn(token);
+        when(jwtUtil.generateToken(user)).thenReturn(token);
         UserTokenResponseDto actual = authenticationService.login(userLoginRequestDto);
         
         assertNotNull(actual);
@@ -163,7 +224,7 @@ class AuthenticationServiceTest {
     public void login_UsernameIsNotCorrect_ReturnsException() {
         userLoginRequestDto.setEmailOrUsername("bobob321");
         
-        when(userRepository.findByUsername(userLoginRequestDto.getEmailOrUsername()))
+        when(userCache.findByUsername(userLoginRequestDto.getEmailOrUsername()))
                 .thenReturn(Optional.empty());
 
         Exception exception = assertThrows(AuthenticationException.class,
@@ -176,7 +237,7 @@ class AuthenticationServiceTest {
     public void login_EmailIsNotCorrect_ReturnsException() {
         userLoginRequestDto.setEmailOrUsername("bobob321@email.com");
         
-        when(userRepository.findByEmail(userLoginRequestDto.getEmailOrUsername()))
+        when(userCache.findByEmail(userLoginRequestDto.getEmailOrUsername()))
                 .thenReturn(Optional.empty());
 
         Exception exception = assertThrows(AuthenticationException.class,
@@ -190,7 +251,7 @@ class AuthenticationServiceTest {
         userLoginRequestDto.setEmailOrUsername("bob@email.com");
         userLoginRequestDto.setPassword("Password321???");
         
-        when(userRepository.findByEmail(userLoginRequestDto.getEmailOrUsername()))
+        when(userCache.findByEmail(userLoginRequestDto.getEmailOrUsername()))
                 .thenReturn(Optional.of(user));
         when(passwordEncoder.matches(userLoginRequestDto.getPassword(), user.getPassword()))
                 .thenReturn(false);
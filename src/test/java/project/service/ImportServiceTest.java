@@ -0,0 +1,171 @@
+package project.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import project.dto.DataFormat;
+import project.dto.project.ProjectRequestDto;
+import project.dto.user.request.UserRegistrationRequestDto;
+import project.mapper.ProjectMapper;
+import project.mapper.UserMapper;
+import project.model.Project;
+import project.model.User;
+import project.repository.ProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
+import project.repository.UserIdentifierFilter;
+import project.repository.UserRepository;
+import project.secure.AuthenticatedUser;
+import project.service.impl.ImportServiceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class ImportServiceTest {
+    private static final String PASSWORD = "Password123!!!";
+    @Mock
+    private ProjectRepository projectRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private ProjectStatusCounterRepository projectStatusCounterRepository;
+    @Mock
+    private ProjectMapper projectMapper;
+    @Mock
+    private UserMapper userMapper;
+    @Mock
+    private PasswordEncoder passwordEncoder;
+    @Mock
+    private UserIdentifierFilter userIdentifierFilter;
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private ImportServiceImpl importService;
+
+    @BeforeEach
+    public void setUp() {
+        importService = new ImportServiceImpl(projectRepository, userRepository,
+                projectStatusCounterRepository, projectMapper, userMapper,
+                passwordEncoder, userIdentifierFilter,
+                Validation.buildDefaultValidatorFactory().getValidator(), objectMapper,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)), 2, 2, 1024);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        importService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Import projects from CSV in chunks with invalid line")
+    public void importProjects_CsvWithInvalidLine_SavesValidChunksAndReportsError()
+            throws Exception {
+        final AuthenticatedUser user = new AuthenticatedUser(1L, "bob123", User.Role.USER, 0);
+        LocalDate start = LocalDate.now();
+        String csv = "name,description,startDate,endDate\n"
+                + "project1,first," + start + "," + start.plusDays(1) + "\n"
+                + "p,second," + start + "," + start.plusDays(1) + "\n"
+                + "project3,third," + start + "," + start.plusDays(1) + "\n"
+                + "project4,fourth," + start + "," + start.plusDays(1) + "\n";
+
+        when(projectMapper.toModel(any(ProjectRequestDto.class)))
+                .thenAnswer(invocation -> new Project());
+        List<JsonNode> events = importData(output -> importService.importProjects(
+                user, DataFormat.CSV, toStream(csv), output));
+
+        verify(projectRepository, times(2)).saveAll(anyList());
+        assertEquals("ERROR", events.get(0).get("type").asText());
+        assertEquals(3, events.get(0).get("line").asLong());
+        JsonNode summary = events.get(events.size() - 1);
+        assertEquals("SUMMARY", summary.get("type").asText());
+        assertEquals(4, summary.get("processed").asLong());
+        assertEquals(3, summary.get("imported").asLong());
+        assertEquals(1, summary.get("failed").asLong());
+    }
+
+    @Test
+    @DisplayName("Import users from NDJSON with duplicate, taken and malformed records")
+    @SuppressWarnings("unchecked")
+    public void importUsers_NdjsonWithConflicts_SavesOnlyNewUsers() throws Exception {
+        String ndjson = toJson("kate123", "kate@email.com") + "\n"
+                + toJson("kate123", "kate2@email.com") + "\n"
+                + "{broken\n"
+                + toJson("bob123", "bob@email.com") + "\n"
+                + toJson("mike123", "mike@email.com") + "\n";
+
+        when(userIdentifierFilter.mightBeTaken(anyString(), anyString()))
+                .thenAnswer(invocation -> "bob123".equals(invocation.getArgument(0)));
+        when(userRepository.findTakenIdentifiersIncludingDeleted(List.of("bob123"),
+                List.of("bob@email.com"))).thenReturn(List.of("BOB123"));
+        when(passwordEncoder.encode(PASSWORD)).thenReturn("hash");
+        when(userMapper.toModel(any(UserRegistrationRequestDto.class))).thenAnswer(invocation -> {
+            UserRegistrationRequestDto dto = invocation.getArgument(0);
+            return new User().setUsername(dto.getUsername()).setEmail(dto.getEmail());
+        });
+        final List<JsonNode> events = importData(output -> importService.importUsers(
+                DataFormat.NDJSON, toStream(ndjson), output));
+
+        ArgumentCaptor<List<User>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, times(2)).saveAll(captor.capture());
+        List<User> saved = captor.getAllValues().stream()
+                .flatMap(List::stream)
+                .toList();
+        assertEquals(List.of("kate123", "mike123"), saved.stream()
+                .map(User::getUsername)
+                .toList());
+        saved.forEach(user -> assertEquals("hash", user.getPassword()));
+        JsonNode summary = events.get(events.size() - 1);
+        assertEquals(5, summary.get("processed").asLong());
+        assertEquals(2, summary.get("imported").asLong());
+        assertEquals(3, summary.get("failed").asLong());
+    }
+
+    private String toJson(String username, String email) throws Exception {
+        return objectMapper.writeValueAsString(new UserRegistrationRequestDto()
+                .setUsername(username)
+                .setEmail(email)
+                .setFirstName("Kate")
+                .setLastName("Lastname")
+                .setPassword(PASSWORD));
+    }
+
+    private ByteArrayInputStream toStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private List<JsonNode> importData(ImportCall call) throws Exception {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        call.run(outputStream);
+        List<JsonNode> events = new ArrayList<>();
+        for (String line : outputStream.toString(StandardCharsets.UTF_8).split("\n")) {
+            events.add(objectMapper.readTree(line));
+        }
+        return events;
+    }
+
+    @FunctionalInterface
+    private interface ImportCall {
+        void run(ByteArrayOutputStream outputStream) throws Exception;
+    }
+}
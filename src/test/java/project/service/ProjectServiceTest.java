@@ -1,16 +1,30 @@
 package project.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,17 +32,35 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
+import project.dto.DataFormat;
+import project.dto.project.CalendarGranularity;
+import project.dto.project.ProjectBatchItemResponseDto;
+import project.dto.project.ProjectCalendarBucketDto;
+import project.dto.project.ProjectPageResponseDto;
 import project.dto.project.ProjectRequestDto;
 import project.dto.project.ProjectResponseDto;
+import project.dto.project.ProjectSummaryResponseDto;
+import project.dto.project.ProjectUpdateItemDto;
 import project.exception.AccessDeniedException;
+import project.exception.InvalidParameterException;
+import project.exception.PreconditionFailedException;
 import project.mapper.ProjectMapper;
 import project.model.Project;
+import project.model.ProjectStatusCounter;
 import project.model.User;
 import project.repository.ProjectRepository;
+import project.repository.ProjectStatusCounterRepository;
 import project.repository.UserRepository;
+import project.repository.projection.PeriodCountView;
+import project.repository.projection.ProjectStatusView;
+import project.repository.projection.ProjectView;
+import project.secure.AuthenticatedUser;
 import project.service.impl.ProjectServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,20 +70,29 @@ public class ProjectServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private ProjectStatusCounterRepository projectStatusCounterRepository;
+    @Mock
     private ProjectMapper projectMapper;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
     @InjectMocks
     private ProjectServiceImpl projectService;
     private ProjectRequestDto projectRequestDto;
     private ProjectRequestDto updatedProjectRequestDto;
     private ProjectResponseDto projectResponseDto;
     private Project project;
+    private ProjectView projectView;
     private User user;
+    private AuthenticatedUser authenticatedUser;
 
     @BeforeEach
     public void setUp() {
         user = new User()
                 .setId(1L)
                 .setUsername("bob123");
+        authenticatedUser = AuthenticatedUser.of(user);
 
         projectRequestDto = new ProjectRequestDto()
                 .setName("project")
@@ -80,18 +121,18 @@ public class ProjectServiceTest {
                 .setStartDate(LocalDate.now())
                 .setEndDate(LocalDate.now().plusDays(3))
                 .setUser(user);
+
+        projectView = createView(1L, 1);
     }
 
     @Test
     @DisplayName("Create a new project")
     public void createProject_DataIsCorrect_ReturnsResponseDto() {
-        String username = "bob123";
-
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
         when(projectMapper.toModel(projectRequestDto)).thenReturn(project);
         when(projectRepository.save(project)).thenReturn(project);
         when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
-        ProjectResponseDto actual = projectService.create(projectRequestDto, username);
+        ProjectResponseDto actual = projectService.create(projectRequestDto, authenticatedUser);
 
         assertNotNull(actual);
         EqualsBuilder.reflectionEquals(projectResponseDto, actual);
@@ -100,28 +141,114 @@ public class ProjectServiceTest {
     @Test
     @DisplayName("Get list of projects by username")
     public void getAllProjects_ReturnsListOfOneResponseDto() {
-        String username = "bob123";
-
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
         when(projectRepository.findAllByUserIdWithSorting(user.getId(),
-                PageRequest.of(0, 10))).thenReturn(List.of(project));
-        when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
+                PageRequest.of(0, 10))).thenReturn(List.of(projectView));
+        when(projectMapper.toDto(projectView)).thenReturn(projectResponseDto);
         List<ProjectResponseDto> actual = projectService.getAll(
-                username, PageRequest.of(0, 10));
+                authenticatedUser, PageRequest.of(0, 10));
 
         assertEquals(1, actual.size());
         EqualsBuilder.reflectionEquals(projectResponseDto, actual.get(0));
     }
 
+    @Test
+    @DisplayName("Get selected fields of user's projects")
+    public void getAllProjects_FieldsAreAllowed_ReturnsSelectedFields() throws Exception {
+        Map<String, Object> project = Map.of("id", 1L, "name", "project");
+
+        when(projectRepository.findFieldsByUserId(user.getId(), List.of("id", "name"),
+                PageRequest.of(0, 10))).thenReturn(List.of(project));
+        List<Map<String, Object>> actual = projectService.getAll(authenticatedUser,
+                "id, name,id", PageRequest.of(0, 10));
+
+        assertEquals(List.of(project), actual);
+        assertThrows(InvalidParameterException.class, () -> projectService.getAll(
+                authenticatedUser, "id,password", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("Get first page of projects when more projects exist")
+    public void getPage_FirstPageHasMore_ReturnsNextCursor() throws Exception {
+        when(projectRepository.findFirstPageByUserId(user.getId(), Limit.of(2)))
+                .thenReturn(List.of(projectView, createView(2L, 1)));
+        when(projectMapper.toDto(projectView)).thenReturn(projectResponseDto);
+        ProjectPageResponseDto actual = projectService.getPage(authenticatedUser, "", 1);
+
+        assertEquals(1, actual.getContent().size());
+        assertTrue(actual.isHasMore());
+        assertNotNull(actual.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Get next page of projects by cursor")
+    public void getPage_CursorIsValid_ReturnsLastPage() throws Exception {
+        ProjectView view = createView(1L, 2);
+        when(projectRepository.findFirstPageByUserId(user.getId(), Limit.of(2)))
+                .thenReturn(List.of(view, view));
+        when(projectMapper.toDto(view)).thenReturn(projectResponseDto);
+        ProjectPageResponseDto firstPage = projectService.getPage(authenticatedUser, "", 1);
+
+        when(projectRepository.findPageByUserIdAfter(user.getId(), 2, 1L, Limit.of(2)))
+                .thenReturn(List.of(view));
+        ProjectPageResponseDto actual = projectService.getPage(authenticatedUser,
+                firstPage.getNextCursor(), 1);
+
+        assertEquals(1, actual.getContent().size());
+        assertFalse(actual.isHasMore());
+        assertNull(actual.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Get page of projects with malformed cursor or size")
+    public void getPage_InvalidParameters_ReturnsException() {
+        assertThrows(InvalidParameterException.class,
+                () -> projectService.getPage(authenticatedUser, "not-a-cursor", 10));
+        assertThrows(InvalidParameterException.class,
+                () -> projectService.getPage(authenticatedUser, "", 0));
+    }
+
+    @Test
+    @DisplayName("Export projects as CSV with escaped values")
+    public void export_CsvFormat_WritesHeaderAndEscapedRows() throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        projectResponseDto.setDescription("first, \"second\"");
+
+        when(projectRepository.streamAllByUserId(user.getId()))
+                .thenReturn(Stream.of(projectView));
+        when(projectMapper.toDto(projectView)).thenReturn(projectResponseDto);
+        projectService.export(authenticatedUser, DataFormat.CSV, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("id,name,description,startDate,endDate,userId,status", lines[0]);
+        assertEquals("1,project,\"first, \"\"second\"\"\"," + LocalDate.now() + ","
+                + LocalDate.now().plusDays(3) + ",1,INITIATED", lines[1]);
+    }
+
+    @Test
+    @DisplayName("Export projects as NDJSON")
+    public void export_NdjsonFormat_WritesOneJsonObjectPerLine() throws Exception {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(projectRepository.streamAllByUserId(user.getId()))
+                .thenReturn(Stream.of(projectView, projectView));
+        when(projectMapper.toDto(projectView)).thenReturn(projectResponseDto);
+        projectService.export(authenticatedUser, DataFormat.NDJSON, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("project", objectMapper.readTree(lines[1]).get("name").asText());
+    }
+
     @Test
     @DisplayName("Get project by id")
     public void getProject_IdIsCorrect_ReturnsResponseDto() {
         Long id = 1L;
-        String username = "bob123";
 
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
-        ProjectResponseDto actual = projectService.get(id, username);
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(projectView));
+        when(projectMapper.toDto(projectView)).thenReturn(projectResponseDto);
+        ProjectResponseDto actual = projectService.get(id, authenticatedUser);
 
         assertNotNull(actual);
         EqualsBuilder.reflectionEquals(projectResponseDto, actual);
@@ -131,7 +258,6 @@ public class ProjectServiceTest {
     @DisplayName("Update project by id with correct data")
     public void updateProject_DataIsCorrect_ReturnsResponseDto() {
         Long id = 1L;
-        String username = "bob123";
         final ProjectResponseDto expected = new ProjectResponseDto()
                 .setId(1L)
                 .setName("project111")
@@ -140,25 +266,315 @@ public class ProjectServiceTest {
                 .setUserId(1L)
                 .setStatus("INITIATED");
 
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        when(projectRepository.save(project)).thenReturn(project);
-        when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
-        ProjectResponseDto actual = projectService.update(id, updatedProjectRequestDto, username);
+        when(projectRepository.updateByIdAndUserId(id, user.getId(),
+                updatedProjectRequestDto.getName(),
+                updatedProjectRequestDto.getDescription(),
+                updatedProjectRequestDto.getStartDate(),
+                updatedProjectRequestDto.getEndDate(), null)).thenReturn(1);
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(projectView));
+        when(projectMapper.toDto(projectView)).thenReturn(projectResponseDto);
+        ProjectResponseDto actual = projectService.update(id, updatedProjectRequestDto,
+                authenticatedUser, null);
 
         assertNotNull(actual);
         EqualsBuilder.reflectionEquals(expected, actual);
+        verify(userRepository, times(1)).incrementProjectsVersion(user.getId());
+    }
+
+    @Test
+    @DisplayName("Update project by id with stale If-Match version")
+    public void updateProject_VersionIsStale_ReturnsException() {
+        Long id = 1L;
+
+        when(projectRepository.updateByIdAndUserId(id, user.getId(),
+                updatedProjectRequestDto.getName(),
+                updatedProjectRequestDto.getDescription(),
+                updatedProjectRequestDto.getStartDate(),
+                updatedProjectRequestDto.getEndDate(), 3L)).thenReturn(0);
+        when(projectRepository.existsByIdAndUserId(id, user.getId())).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> projectService.update(id,
+                updatedProjectRequestDto, authenticatedUser, 3L));
+        verify(userRepository, never()).incrementProjectsVersion(user.getId());
+    }
+
+    @Test
+    @DisplayName("Get list version from the database")
+    public void getListVersion_UserExists_ReturnsVersion() {
+        when(userRepository.findProjectsVersionById(user.getId())).thenReturn(Optional.of(3L));
+
+        assertEquals(3L, projectService.getListVersion(authenticatedUser));
+    }
+
+    @Test
+    @DisplayName("Get project version without loading the project")
+    public void getVersion_ProjectExists_ReturnsVersion() {
+        when(projectRepository.findVersionByIdAndUserId(5L, user.getId()))
+                .thenReturn(Optional.of(2L));
+
+        assertEquals(2L, projectService.getVersion(5L, authenticatedUser));
+        assertNull(projectService.getVersion(6L, authenticatedUser));
+        verify(projectRepository, never()).findByIdAndUserId(5L, user.getId());
+    }
+
+    @Test
+    @DisplayName("Patch only the changed description of a project started in the past")
+    public void patchProject_DescriptionChanged_UpdatesOnlyDescription() throws Exception {
+        Long id = 1L;
+        ProjectView current = createStoredView(id, LocalDate.now().minusDays(3));
+
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(current));
+        when(projectRepository.patchByIdAndUserId(id, user.getId(),
+                Map.of("description", "new description"), null)).thenReturn(1);
+        when(projectMapper.toDto(current)).thenReturn(projectResponseDto);
+        ProjectResponseDto actual = projectService.patch(id,
+                objectMapper.readTree("{\"description\":\"new description\"}"),
+                authenticatedUser, null);
+
+        assertNotNull(actual);
+        verify(userRepository, times(1)).incrementProjectsVersion(user.getId());
+    }
+
+    @Test
+    @DisplayName("Patch project with unchanged values skips the update")
+    public void patchProject_NothingChanged_SkipsUpdate() throws Exception {
+        Long id = 1L;
+        ProjectView current = createStoredView(id, LocalDate.now());
+
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(current));
+        when(projectMapper.toDto(current)).thenReturn(projectResponseDto);
+        projectService.patch(id, objectMapper.readTree("{\"name\":\"project\"}"),
+                authenticatedUser, null);
+
+        verify(projectRepository, never()).patchByIdAndUserId(any(), any(), anyMap(), any());
+        verify(userRepository, never()).incrementProjectsVersion(user.getId());
+    }
+
+    @Test
+    @DisplayName("Patch project with invalid or unknown fields")
+    public void patchProject_InvalidPatch_ReturnsException() throws Exception {
+        Long id = 1L;
+        ProjectView current = createStoredView(id, LocalDate.now());
+
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(current));
+        InvalidParameterException dateException = assertThrows(
+                InvalidParameterException.class, () -> projectService.patch(id,
+                        objectMapper.readTree("{\"startDate\":\""
+                                + LocalDate.now().plusDays(10) + "\"}"),
+                        authenticatedUser, null));
+        InvalidParameterException nameException = assertThrows(
+                InvalidParameterException.class, () -> projectService.patch(id,
+                        objectMapper.readTree("{\"name\":null}"), authenticatedUser, null));
+        assertThrows(InvalidParameterException.class, () -> projectService.patch(id,
+                objectMapper.readTree("{\"status\":\"COMPLETED\"}"), authenticatedUser, null));
+
+        assertEquals("startDate must be before endDate", dateException.getMessage());
+        assertTrue(nameException.getMessage().startsWith("name "));
+        verify(projectRepository, never()).patchByIdAndUserId(any(), any(), anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("Change project status with a valid transition")
+    public void changeStatus_ValidTransition_ReturnsResponseDto() throws Exception {
+        Long id = 5L;
+        ProjectView current = createView(id, 1);
+
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(current));
+        when(projectRepository.updateStatusByIdAndUserId(id, user.getId(),
+                Project.Status.INITIATED, Project.Status.IN_PROGRESS)).thenReturn(1);
+        when(projectMapper.toDto(current)).thenReturn(projectResponseDto);
+        ProjectResponseDto actual = projectService.changeStatus(id,
+                Project.Status.IN_PROGRESS, authenticatedUser, null);
+
+        assertNotNull(actual);
+        verify(userRepository, times(1)).incrementProjectsVersion(user.getId());
+        verify(projectStatusCounterRepository, times(1))
+                .add(user.getId(), Project.Status.INITIATED, -1);
+        verify(projectStatusCounterRepository, times(1))
+                .add(user.getId(), Project.Status.IN_PROGRESS, 1);
+    }
+
+    @Test
+    @DisplayName("Change project status with an invalid transition")
+    public void changeStatus_InvalidTransition_ReturnsException() {
+        Long id = 5L;
+
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.of(createView(id, 1)));
+        InvalidParameterException exception = assertThrows(InvalidParameterException.class,
+                () -> projectService.changeStatus(id, Project.Status.COMPLETED,
+                        authenticatedUser, null));
+
+        assertEquals("Project status can't be changed from INITIATED to COMPLETED",
+                exception.getMessage());
+        verify(projectRepository, never()).updateStatusByIdAndUserId(any(), any(), any(),
+                any());
     }
 
     @Test
     @DisplayName("Delete project by id")
     public void deleteProject_IdIsCorrect_Success() {
         Long id = 1L;
-        String username = "bob123";
 
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
-        projectService.delete(id, username);
+        when(projectRepository.lockStatusesByIdInAndUserId(List.of(id), user.getId()))
+                .thenReturn(List.of(createStatusView(id, Project.Status.IN_PROGRESS)));
+        when(projectRepository.softDeleteByIdAndUserId(id, user.getId())).thenReturn(1);
+        projectService.delete(id, authenticatedUser);
+
+        verify(projectRepository, times(1)).softDeleteByIdAndUserId(id, user.getId());
+        verify(projectRepository, never()).existsById(id);
+        verify(projectStatusCounterRepository, times(1))
+                .add(user.getId(), Project.Status.IN_PROGRESS, -1);
+    }
+
+    @Test
+    @DisplayName("Search projects keeps the relevance order of the index")
+    public void search_QueryMatchesProjects_ReturnsRankedResults() throws Exception {
+        ProjectView first = createView(2L, 1);
+        ProjectView second = createView(1L, 1);
+
+        when(projectRepository.searchIdsByUserId(user.getId(), "project", 10, 0L))
+                .thenReturn(List.of(2L, 1L));
+        when(projectRepository.findAllViewsByIdIn(List.of(2L, 1L)))
+                .thenReturn(List.of(second, first));
+        when(projectMapper.toDto(first)).thenReturn(new ProjectResponseDto().setId(2L));
+        when(projectMapper.toDto(second)).thenReturn(projectResponseDto);
+        List<ProjectResponseDto> actual = projectService.search(authenticatedUser,
+                " project ", PageRequest.of(0, 10));
+
+        assertEquals(List.of(2L, 1L), actual.stream()
+                .map(ProjectResponseDto::getId)
+                .toList());
+        assertThrows(InvalidParameterException.class, () -> projectService.search(
+                authenticatedUser, " ", PageRequest.of(0, 10)));
+    }
+
+    @Test
+    @DisplayName("Get calendar with week buckets clipped to the requested range")
+    public void getCalendar_WeekGranularity_ReturnsBuckets() throws Exception {
+        LocalDate from = LocalDate.of(2024, 1, 3);
+        LocalDate to = LocalDate.of(2024, 1, 16);
+
+        when(projectRepository.countPeriodsByUserIdOverlapping(user.getId(), from, to))
+                .thenReturn(List.of(
+                        createPeriod(LocalDate.of(2023, 12, 20), LocalDate.of(2024, 1, 5), 2L),
+                        createPeriod(LocalDate.of(2024, 1, 9), LocalDate.of(2024, 2, 1), 1L)));
+        List<ProjectCalendarBucketDto> actual = projectService.getCalendar(authenticatedUser,
+                from, to, CalendarGranularity.WEEK);
+
+        assertEquals(List.of(
+                new ProjectCalendarBucketDto().setDate(LocalDate.of(2024, 1, 1))
+                        .setActive(2).setEnding(2),
+                new ProjectCalendarBucketDto().setDate(LocalDate.of(2024, 1, 8))
+                        .setActive(1).setStarting(1),
+                new ProjectCalendarBucketDto().setDate(LocalDate.of(2024, 1, 15))
+                        .setActive(1)), actual);
+    }
+
+    @Test
+    @DisplayName("Get calendar with invalid range")
+    public void getCalendar_InvalidRange_ReturnsException() {
+        LocalDate from = LocalDate.of(2024, 1, 1);
+
+        assertThrows(InvalidParameterException.class, () -> projectService.getCalendar(
+                authenticatedUser, from, from.minusDays(1), CalendarGranularity.DAY));
+        assertThrows(InvalidParameterException.class, () -> projectService.getCalendar(
+                authenticatedUser, from, from.plusYears(2), CalendarGranularity.DAY));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("Get project summary from the status counters")
+    public void getSummary_CounterExists_ReturnsCounts() {
+        when(projectStatusCounterRepository.findById(user.getId()))
+                .thenReturn(Optional.of(new ProjectStatusCounter()
+                        .setUserId(user.getId())
+                        .setInitiated(1)
+                        .setInProgress(2)
+                        .setCompleted(3)));
+        ProjectSummaryResponseDto actual = projectService.getSummary(authenticatedUser);
+
+        assertEquals(new ProjectSummaryResponseDto()
+                .setInitiated(1)
+                .setInProgress(2)
+                .setCompleted(3)
+                .setTotal(6), actual);
+    }
+
+    @Test
+    @DisplayName("Create projects in batch")
+    public void createAll_DataIsCorrect_ReturnsCreatedResults() {
+        when(userRepository.getReferenceById(user.getId())).thenReturn(user);
+        when(projectMapper.toModel(projectRequestDto)).thenReturn(project);
+        when(projectRepository.saveAll(List.of(project))).thenReturn(List.of(project));
+        when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
+        List<ProjectBatchItemResponseDto> actual = projectService.createAll(
+                List.of(projectRequestDto), authenticatedUser);
+
+        assertEquals(1, actual.size());
+        assertEquals(ProjectBatchItemResponseDto.Result.CREATED, actual.get(0).getResult());
+        assertEquals(user, project.getUser());
+    }
+
+    @Test
+    @DisplayName("Update projects in batch with own, foreign and missing ids")
+    public void updateAll_MixedIds_ReturnsPerItemResults() throws Exception {
+        List<ProjectUpdateItemDto> items = List.of(
+                new ProjectUpdateItemDto().setId(1L).setProject(updatedProjectRequestDto),
+                new ProjectUpdateItemDto().setId(4L).setProject(updatedProjectRequestDto),
+                new ProjectUpdateItemDto().setId(100L).setProject(updatedProjectRequestDto));
+
+        when(projectRepository.findAllByIdInAndUserId(Set.of(1L, 4L, 100L), user.getId()))
+                .thenReturn(List.of(project));
+        when(projectRepository.findExistingIds(Set.of(1L, 4L, 100L)))
+                .thenReturn(List.of(1L, 4L));
+        when(projectMapper.toDto(project)).thenReturn(projectResponseDto);
+        List<ProjectBatchItemResponseDto> actual = projectService.updateAll(
+                items, authenticatedUser);
 
-        verify(projectRepository, times(1)).delete(project);
+        assertEquals(List.of(ProjectBatchItemResponseDto.Result.UPDATED,
+                ProjectBatchItemResponseDto.Result.FORBIDDEN,
+                ProjectBatchItemResponseDto.Result.NOT_FOUND), actual.stream()
+                .map(ProjectBatchItemResponseDto::getResult)
+                .toList());
+        assertEquals("project111", project.getName());
+    }
+
+    @Test
+    @DisplayName("Update projects in batch with a duplicated id")
+    public void updateAll_DuplicateIds_ThrowsException() {
+        List<ProjectUpdateItemDto> items = List.of(
+                new ProjectUpdateItemDto().setId(1L).setProject(updatedProjectRequestDto),
+                new ProjectUpdateItemDto().setId(1L).setProject(updatedProjectRequestDto));
+
+        assertThrows(InvalidParameterException.class,
+                () -> projectService.updateAll(items, authenticatedUser));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("Delete projects in batch with own, foreign and missing ids")
+    public void deleteAll_MixedIds_ReturnsPerItemResults() {
+        when(projectRepository.lockStatusesByIdInAndUserId(Set.of(1L, 4L, 100L),
+                user.getId())).thenReturn(List.of(createStatusView(1L, Project.Status.COMPLETED)));
+        when(projectRepository.findExistingIds(Set.of(1L, 4L, 100L)))
+                .thenReturn(List.of(1L, 4L));
+        List<ProjectBatchItemResponseDto> actual = projectService.deleteAll(
+                List.of(1L, 4L, 100L), authenticatedUser);
+
+        verify(projectRepository, times(1)).softDeleteAllByIdIn(Set.of(1L));
+        verify(projectStatusCounterRepository, times(1))
+                .add(user.getId(), Project.Status.COMPLETED, -1L);
+        assertEquals(List.of(ProjectBatchItemResponseDto.Result.DELETED,
+                ProjectBatchItemResponseDto.Result.FORBIDDEN,
+                ProjectBatchItemResponseDto.Result.NOT_FOUND), actual.stream()
+                .map(ProjectBatchItemResponseDto::getResult)
+                .toList());
     }
 
     @Test
@@ -166,15 +582,17 @@ public class ProjectServiceTest {
             + "when no project with that id")
     public void checkProjectById_NoProjectWithThatId_ReturnsExceptions() {
         Long id = 100L;
-        String username = "bob123";
 
-        when(projectRepository.findById(id)).thenReturn(Optional.empty());
+        when(projectRepository.findByIdAndUserId(id, user.getId()))
+                .thenReturn(Optional.empty());
+        when(projectRepository.existsById(id)).thenReturn(false);
         Exception exceptionInGetMethod = assertThrows(EntityNotFoundException.class,
-                () -> projectService.get(id, username));
+                () -> projectService.get(id, authenticatedUser));
         Exception exceptionInUpdateMethod = assertThrows(EntityNotFoundException.class,
-                () -> projectService.update(id, updatedProjectRequestDto, username));
+                () -> projectService.update(id, updatedProjectRequestDto, authenticatedUser,
+                        null));
         Exception exceptionInDeleteMethod = assertThrows(EntityNotFoundException.class,
-                () -> projectService.get(id, username));
+                () -> projectService.delete(id, authenticatedUser));
 
         Stream.of(exceptionInGetMethod, exceptionInUpdateMethod, exceptionInDeleteMethod)
                         .forEach(exception -> assertEquals("Project with id "
@@ -186,18 +604,44 @@ public class ProjectServiceTest {
             + "when user wants to access another user's project")
     public void checkProjectById_UserGetsAccessToAnotherUsersProject_ReturnsExceptions() {
         Long id = 1L;
-        String username = "alice123";
+        AuthenticatedUser anotherUser = new AuthenticatedUser(2L, "alice123",
+                User.Role.USER, 0);
 
-        when(projectRepository.findById(id)).thenReturn(Optional.of(project));
+        when(projectRepository.findByIdAndUserId(id, anotherUser.id()))
+                .thenReturn(Optional.empty());
+        when(projectRepository.existsById(id)).thenReturn(true);
         Exception exceptionInGetMethod = assertThrows(AccessDeniedException.class,
-                () -> projectService.get(id, username));
+                () -> projectService.get(id, anotherUser));
         Exception exceptionInUpdateMethod = assertThrows(AccessDeniedException.class,
-                () -> projectService.update(id, updatedProjectRequestDto, username));
+                () -> projectService.update(id, updatedProjectRequestDto, anotherUser, null));
         Exception exceptionInDeleteMethod = assertThrows(AccessDeniedException.class,
-                () -> projectService.get(id, username));
+                () -> projectService.delete(id, anotherUser));
 
         Stream.of(exceptionInGetMethod, exceptionInUpdateMethod, exceptionInDeleteMethod)
                 .forEach(exception -> assertEquals("You do not have a project with id "
                         + id, exception.getMessage()));
     }
+
+    private ProjectView createStoredView(Long id, LocalDate startDate) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ProjectView.class,
+                Map.of("id", id, "name", "project", "description", "description",
+                        "startDate", startDate, "endDate", LocalDate.now().plusDays(3),
+                        "userId", user.getId(), "version", 2L));
+    }
+
+    private PeriodCountView createPeriod(LocalDate startDate, LocalDate endDate, Long count) {
+        return new SpelAwareProxyProjectionFactory().createProjection(PeriodCountView.class,
+                Map.of("startDate", startDate, "endDate", endDate, "count", count));
+    }
+
+    private ProjectView createView(Long id, int statusRank) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ProjectView.class,
+                Map.of("id", id, "userId", user.getId(), "statusRank", statusRank,
+                        "status", Project.Status.values()[statusRank - 1], "version", 0L));
+    }
+
+    private ProjectStatusView createStatusView(Long id, Project.Status status) {
+        return new SpelAwareProxyProjectionFactory().createProjection(ProjectStatusView.class,
+                Map.of("id", id, "status", status));
+    }
 }
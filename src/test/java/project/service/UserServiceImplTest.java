@@ -9,6 +9,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,17 +19,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.testcontainers.shaded.org.apache.commons.lang3.builder.EqualsBuilder;
+import project.config.CacheConfig;
 import project.dto.user.request.UserUpdatePasswordRequestDto;
 import project.dto.user.request.UserUpdatePersonalInfoRequestDto;
 import project.dto.user.response.UserResponseDto;
 import project.dto.user.response.UserUpdateResponseDto;
 import project.exception.DataEditingException;
+import project.exception.InvalidParameterException;
 import project.mapper.UserMapper;
 import project.model.User;
+import project.repository.UserCache;
+import project.repository.UserIdentifierFilter;
 import project.repository.UserRepository;
+import project.secure.AuthenticatedUser;
 import project.secure.JwtUtil;
+import project.secure.VerifiedTokenCache;
 import project.service.impl.UserServiceImpl;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +51,12 @@ class UserServiceImplTest {
     private JwtUtil jwtUtil;
     @Mock
     private PasswordEncoder passwordEncoder;
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+    @Mock
+    private UserCache userCache;
+    @Mock
+    private UserIdentifierFilter userIdentifierFilter;
     @InjectMocks
     private UserServiceImpl userService;
     private UserResponseDto userResponseDto;
@@ -48,6 +65,8 @@ class UserServiceImplTest {
     private UserUpdatePasswordRequestDto userUpdatePasswordRequestDto;
     private User user;
     private User adminUser;
+    private AuthenticatedUser authenticatedUser;
+    private AuthenticatedUser authenticatedAdmin;
 
     @BeforeEach
     public void setUp() {
@@ -74,6 +93,9 @@ class UserServiceImplTest {
                 .setLastName("Lastname")
                 .setRole(User.Role.ADMIN);
 
+        authenticatedUser = AuthenticatedUser.of(user);
+        authenticatedAdmin = AuthenticatedUser.of(adminUser);
+
         userUpdatePersonalInfoRequestDto = new UserUpdatePersonalInfoRequestDto()
                 .setEmail("alice1@email.com")
                 .setUsername("alice1234")
@@ -94,32 +116,44 @@ class UserServiceImplTest {
     }
 
     @Test
-    @DisplayName("Get user by username when user with this username exists")
+    @DisplayName("Get authenticated user when user with this id exists")
     public void getUser_UserExists_ReturnsDto() {
-        String username = "alice123";
-
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
+        when(userCache.findById(user.getId())).thenReturn(Optional.of(user));
         when(userMapper.toDto(user)).thenReturn(userResponseDto);
-        UserResponseDto actual = userService.getByUsername(username);
+        UserResponseDto actual = userService.get(authenticatedUser);
 
         assertNotNull(actual);
         assertEquals(user.getId(), actual.getId());
     }
 
+    @Test
+    @DisplayName("Get selected fields of authenticated user")
+    public void getUser_FieldsAreAllowed_ReturnsSelectedFields() throws Exception {
+        Map<String, Object> fields = Map.of("username", user.getUsername());
+
+        when(userRepository.findFieldsById(user.getId(), List.of("username")))
+                .thenReturn(Optional.of(fields));
+
+        assertEquals(fields, userService.get(authenticatedUser, "username"));
+        assertThrows(InvalidParameterException.class,
+                () -> userService.get(authenticatedUser, "password"));
+    }
+
     @Test
     @DisplayName("Update role when data is correct")
     public void updateRole_DataIsCorrect_Success() throws DataEditingException {
         Long id = 2L;
         final User.Role role = User.Role.ADMIN;
-        String username = "john123";
 
         when(userRepository.findById(id)).thenReturn(Optional.of(user));
-        when(userRepository.getUserByUsername(username)).thenReturn(adminUser);
         when(userRepository.save(user)).thenReturn(user);
-        userService.updateRole(id, role, username);
+        userService.updateRole(id, role, authenticatedAdmin);
 
         assertEquals(role, userRepository.findById(id).get().getRole());
+        assertEquals(1, user.getTokenVersion());
         verify(userRepository, times(1)).save(user.setRole(role));
+        verify(verifiedTokenCache, times(1)).invalidate(user.getId());
+        verify(userCache, times(1)).evict(user);
     }
 
     @Test
@@ -127,12 +161,11 @@ class UserServiceImplTest {
     public void updateRole_UserWithThisIdDoesNotExist_ReturnsException() {
         Long id = 100L;
         User.Role role = User.Role.ADMIN;
-        String username = "john123";
 
         when(userRepository.findById(id)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(EntityNotFoundException.class,
-                () -> userService.updateRole(id, role, username));
+                () -> userService.updateRole(id, role, authenticatedAdmin));
         assertEquals("User with id " + id + " not found!", exception.getMessage());
     }
 
@@ -141,13 +174,11 @@ class UserServiceImplTest {
     public void updateRole_UserChangesHisRole_ReturnsException() {
         Long id = 3L;
         User.Role role = User.Role.USER;
-        String username = "john123";
 
         when(userRepository.findById(id)).thenReturn(Optional.of(adminUser));
-        when(userRepository.getUserByUsername(username)).thenReturn(adminUser);
 
         Exception exception = assertThrows(DataEditingException.class,
-                () -> userService.updateRole(id, role, username));
+                () -> userService.updateRole(id, role, authenticatedAdmin));
         assertEquals("You can`t update your role", exception.getMessage());
     }
 
@@ -156,13 +187,11 @@ class UserServiceImplTest {
     public void updateRole_UpdateRoleOfSeniorUser_ReturnsException() {
         Long id = 2L;
         User.Role role = User.Role.ADMIN;
-        String username = "john123";
 
         when(userRepository.findById(id)).thenReturn(Optional.of(user.setRole(User.Role.ADMIN)));
-        when(userRepository.getUserByUsername(username)).thenReturn(adminUser);
 
         Exception exception = assertThrows(DataEditingException.class,
-                () -> userService.updateRole(id, role, username));
+                () -> userService.updateRole(id, role, authenticatedAdmin));
         assertEquals("You do not have the authority to change "
                 + "this user's role", exception.getMessage());
     }
@@ -172,37 +201,31 @@ class UserServiceImplTest {
     public void updateRole_UserAlreadyHasThisRole_ReturnsException() {
         Long id = 2L;
         User.Role role = User.Role.USER;
-        String username = "john123";
 
         when(userRepository.findById(id)).thenReturn(Optional.of(user));
-        when(userRepository.getUserByUsername(username)).thenReturn(adminUser);
 
         Exception exception = assertThrows(DataEditingException.class,
-                () -> userService.updateRole(id, role, username));
+                () -> userService.updateRole(id, role, authenticatedAdmin));
         assertEquals("This user already has this role", exception.getMessage());
     }
 
     @Test
     @DisplayName("Update personal info with correct dto")
     public void updatePersonalInfo_DtoIsCorrect_ReturnsResponseDto() throws DataEditingException {
-        String username = "alice123";
         String token = "token";
         User updatedUser = new User().setEmail("alice1@email.com")
                 .setUsername("alice1234")
                 .setFirstName("Aliceeee")
                 .setLastName("Lastnameeee");
 
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
-        when(userRepository.findByUsername(userUpdatePersonalInfoRequestDto.getUsername()))
-                .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(userUpdatePersonalInfoRequestDto.getEmail()))
-                .thenReturn(Optional.empty());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(userMapper.toModel(userUpdatePersonalInfoRequestDto)).thenReturn(updatedUser);
-        when(jwtUtil.generateToken(updatedUser.getUsername())).thenReturn(token);
-        when(userRepository.save(updatedUser)).thenReturn(updatedUser);
+        when(jwtUtil.generateToken(updatedUser)).thenReturn(token);
+        when(userRepository.saveAndFlush(updatedUser)).thenReturn(updatedUser);
         when(userMapper.toUpdateDto(updatedUser)).thenReturn(userUpdateResponseDto);
         UserUpdateResponseDto actual =
-                userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto, username);
+                userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto,
+                        authenticatedUser);
 
         assertNotNull(actual);
         assertNotNull(actual.getToken());
@@ -210,6 +233,36 @@ class UserServiceImplTest {
 
     }
 
+    @Test
+    @DisplayName("Update personal info evicts the old username and email from the cache")
+    public void updatePersonalInfo_UsernameAndEmailChanged_OldKeysAreEvicted()
+            throws DataEditingException {
+        CacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.USERS_BY_ID,
+                CacheConfig.USERS_BY_USERNAME, CacheConfig.USERS_BY_EMAIL);
+        UserCache realUserCache = new UserCache(cacheManager, userRepository);
+        final UserServiceImpl service = new UserServiceImpl(userRepository, userMapper, jwtUtil,
+                passwordEncoder, verifiedTokenCache, realUserCache, userIdentifierFilter);
+        User updatedUser = new User().setEmail("alice1@email.com")
+                .setUsername("alice1234")
+                .setFirstName("Aliceeee")
+                .setLastName("Lastnameeee");
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userRepository.findByUsername("alice123")).thenReturn(Optional.of(user));
+        when(userRepository.findByEmail("alice@email.com")).thenReturn(Optional.of(user));
+        when(userMapper.toModel(userUpdatePersonalInfoRequestDto)).thenReturn(updatedUser);
+        when(userRepository.saveAndFlush(updatedUser)).thenAnswer(invocation -> user
+                .setUsername(updatedUser.getUsername())
+                .setEmail(updatedUser.getEmail()));
+        when(userMapper.toUpdateDto(user)).thenReturn(userUpdateResponseDto);
+        realUserCache.findByUsername("alice123");
+        realUserCache.findByEmail("alice@email.com");
+        service.updatePersonalInfo(userUpdatePersonalInfoRequestDto, authenticatedUser);
+
+        assertNull(cacheManager.getCache(CacheConfig.USERS_BY_USERNAME).get("alice123"));
+        assertNull(cacheManager.getCache(CacheConfig.USERS_BY_EMAIL).get("alice@email.com"));
+    }
+
     @Test
     @DisplayName("Update personal info with correct dto without new username")
     public void updatePersonalInfo_DtoWithoutNewUsername_ReturnsResponseDtoWithoutToken()
@@ -221,82 +274,107 @@ class UserServiceImplTest {
                 .setFirstName("Aliceeee")
                 .setLastName("Lastnameeee");
 
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
-        when(userRepository.findByUsername(userUpdatePersonalInfoRequestDto.getUsername()))
-                .thenReturn(Optional.empty());
-        when(userRepository.findByEmail(userUpdatePersonalInfoRequestDto.getEmail()))
-                .thenReturn(Optional.empty());
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userIdentifierFilter.mightBeTaken(userUpdatePersonalInfoRequestDto.getUsername(),
+                userUpdatePersonalInfoRequestDto.getEmail())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmailAndIdNot(
+                userUpdatePersonalInfoRequestDto.getUsername(),
+                userUpdatePersonalInfoRequestDto.getEmail(), user.getId())).thenReturn(false);
         when(userMapper.toModel(userUpdatePersonalInfoRequestDto)).thenReturn(updatedUser);
-        when(userRepository.save(updatedUser)).thenReturn(updatedUser);
+        when(userRepository.saveAndFlush(updatedUser)).thenReturn(updatedUser);
         when(userMapper.toUpdateDto(updatedUser)).thenReturn(userUpdateResponseDto);
         UserUpdateResponseDto actual =
-                userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto, username);
+                userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto,
+                        authenticatedUser);
 
         assertNotNull(actual);
         assertNull(actual.getToken());
-        verify(jwtUtil, times(0)).generateToken(username);
+        verify(jwtUtil, times(0)).generateToken(updatedUser);
         EqualsBuilder.reflectionEquals(userUpdateResponseDto, actual, "token");
     }
 
     @Test
     @DisplayName("Update personal info when user with new username already exists")
     public void updatePersonalInfo_UserWithNewUsernameExists_ReturnsException() {
-        String username = "alice123";
-        User existingUser = new User().setUsername("alice1234");
-
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
-        when(userRepository.findByUsername(userUpdatePersonalInfoRequestDto.getUsername()))
-                .thenReturn(Optional.of(existingUser));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userIdentifierFilter.mightBeTaken(userUpdatePersonalInfoRequestDto.getUsername(),
+                userUpdatePersonalInfoRequestDto.getEmail())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmailAndIdNot(
+                userUpdatePersonalInfoRequestDto.getUsername(),
+                userUpdatePersonalInfoRequestDto.getEmail(), user.getId())).thenReturn(true);
 
         Exception exception = assertThrows(DataEditingException.class,
-                () -> userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto, username));
+                () -> userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto,
+                        authenticatedUser));
         assertEquals("User with this email or username exists", exception.getMessage());
     }
 
     @Test
     @DisplayName("Update personal info when user with new email already exists")
     public void updatePersonalInfo_UserWithNewEmailExists_ReturnsException() {
-        String username = "alice123";
-        User existingUser = new User().setEmail("alice1234@email.com");
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userIdentifierFilter.mightBeTaken(userUpdatePersonalInfoRequestDto.getUsername(),
+                userUpdatePersonalInfoRequestDto.getEmail())).thenReturn(true);
+        when(userRepository.existsByUsernameOrEmailAndIdNot(
+                userUpdatePersonalInfoRequestDto.getUsername(),
+                userUpdatePersonalInfoRequestDto.getEmail(), user.getId())).thenReturn(true);
 
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
-        when(userRepository.findByEmail(userUpdatePersonalInfoRequestDto.getEmail()))
-                .thenReturn(Optional.of(existingUser));
+        Exception exception = assertThrows(DataEditingException.class,
+                () -> userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto,
+                        authenticatedUser));
+        assertEquals("User with this email or username exists", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Update personal info when a concurrent update took the new username")
+    public void updatePersonalInfo_UniqueConstraintIsViolated_ReturnsException() {
+        User updatedUser = new User().setEmail("alice1@email.com")
+                .setUsername("alice1234")
+                .setFirstName("Aliceeee")
+                .setLastName("Lastnameeee");
+
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(userMapper.toModel(userUpdatePersonalInfoRequestDto)).thenReturn(updatedUser);
+        when(userRepository.saveAndFlush(updatedUser))
+                .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
 
         Exception exception = assertThrows(DataEditingException.class,
-                () -> userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto, username));
+                () -> userService.updatePersonalInfo(userUpdatePersonalInfoRequestDto,
+                        authenticatedUser));
         assertEquals("User with this email or username exists", exception.getMessage());
+        verify(jwtUtil, times(0)).generateToken(updatedUser);
     }
 
     @Test
     @DisplayName("Update password with correct dto")
     public void updatePassword_DtoIsCorrect_Success() throws DataEditingException {
-        String username = "alice123";
         String encodedPassword = "encoded_password";
 
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(userUpdatePasswordRequestDto.getCurrentPassword(),
                 user.getPassword())).thenReturn(true);
         when(passwordEncoder.encode(userUpdatePasswordRequestDto.getNewPassword()))
                 .thenReturn(encodedPassword);
         when(userRepository.save(user)).thenReturn(user);
-        userService.updatePassword(userUpdatePasswordRequestDto, username);
+        userService.updatePassword(userUpdatePasswordRequestDto, authenticatedUser);
 
         assertEquals(encodedPassword, user.getPassword());
+        assertEquals(1, user.getTokenVersion());
+        verify(verifiedTokenCache, times(1)).invalidate(user.getId());
+        verify(userCache, times(1)).evict(user);
     }
 
     @Test
     @DisplayName("Update password when current passwords from db and dto do not match")
     public void updatePassword_Current_Success() {
-        String username = "alice123";
         userUpdatePasswordRequestDto.setCurrentPassword("Password234!!!");
 
-        when(userRepository.getUserByUsername(username)).thenReturn(user);
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(passwordEncoder.matches(userUpdatePasswordRequestDto.getCurrentPassword(),
                 user.getPassword())).thenReturn(false);
 
         Exception exception = assertThrows(DataEditingException.class,
-                () -> userService.updatePassword(userUpdatePasswordRequestDto, username));
+                () -> userService.updatePassword(userUpdatePasswordRequestDto, authenticatedUser));
         assertEquals("The current password is incorrect", exception.getMessage());
     }
 }
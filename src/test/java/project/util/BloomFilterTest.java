@@ -0,0 +1,32 @@
+package project.util;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+    @Test
+    @DisplayName("Check values that were added")
+    public void mightContain_ValuesWereAdded_ReturnsTrue() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("user" + i));
+
+        assertTrue(IntStream.range(0, 1000).allMatch(i -> filter.mightContain("user" + i)));
+    }
+
+    @Test
+    @DisplayName("Check values that were not added")
+    public void mightContain_ValuesWereNotAdded_ReturnsFalseMostOfTheTime() {
+        BloomFilter filter = new BloomFilter(1000, 0.01);
+        IntStream.range(0, 1000).forEach(i -> filter.put("user" + i));
+        long falsePositives = IntStream.range(0, 10000)
+                .filter(i -> filter.mightContain("other" + i))
+                .count();
+
+        assertFalse(filter.mightContain("bob123"));
+        assertTrue(falsePositives < 300);
+    }
+}
@@ -0,0 +1,77 @@
+package project.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import project.dto.DataFormat;
+
+class RecordReaderTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Read CSV records with quoted values spanning lines")
+    public void next_CsvWithQuotedValues_ReturnsRecordsWithLineNumbers() throws Exception {
+        RecordReader reader = createReader(DataFormat.CSV, "name,description\n"
+                + "project1,\"first, \"\"quoted\"\"\"\n"
+                + "\n"
+                + "project2,\"multi\nline\"\n"
+                + "project3,\n");
+
+        JsonNode first = reader.next();
+        assertEquals(2, reader.getLineNumber());
+        JsonNode second = reader.next();
+        assertEquals(4, reader.getLineNumber());
+        JsonNode third = reader.next();
+
+        assertEquals("first, \"quoted\"", first.get("description").asText());
+        assertEquals("multi\nline", second.get("description").asText());
+        assertFalse(third.has("description"));
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Read NDJSON records and report malformed line")
+    public void next_NdjsonWithMalformedLine_ThrowsAndContinues() throws Exception {
+        RecordReader reader = createReader(DataFormat.NDJSON,
+                "{\"name\":\"project1\"}\n{broken\n{\"name\":\"project3\"}\n");
+
+        assertEquals("project1", reader.next().get("name").asText());
+        assertThrows(JsonProcessingException.class, reader::next);
+        assertEquals(2, reader.getLineNumber());
+        assertEquals("project3", reader.next().get("name").asText());
+        assertNull(reader.next());
+    }
+
+    @Test
+    @DisplayName("Read records exceeding the maximum size and skip them")
+    public void next_RecordIsTooLarge_ThrowsAndContinues() throws Exception {
+        RecordReader reader = createReader(DataFormat.CSV, "name,description\r\n"
+                + "project1,first\r\n"
+                + "project2," + "x".repeat(100) + "\r\n"
+                + "project3,\"" + "y".repeat(30) + "\n" + "z".repeat(30) + "\"\n"
+                + "project4,fourth\n");
+
+        assertEquals("first", reader.next().get("description").asText());
+        assertThrows(RecordReader.RecordTooLargeException.class, reader::next);
+        assertEquals(3, reader.getLineNumber());
+        assertThrows(RecordReader.RecordTooLargeException.class, reader::next);
+        assertEquals(4, reader.getLineNumber());
+        assertEquals("project4", reader.next().get("name").asText());
+        assertEquals(6, reader.getLineNumber());
+        assertNull(reader.next());
+    }
+
+    private RecordReader createReader(DataFormat format, String content) {
+        return new RecordReader(new ByteArrayInputStream(
+                content.getBytes(StandardCharsets.UTF_8)), format, objectMapper, 50);
+    }
+}
@@ -12,3 +12,5 @@ VALUES (4, 'project4', 'description4', CURRENT_DATE - INTERVAL 1 DAY, CURRENT_DA
 
 INSERT INTO projects (id, name, description, start_date, end_date, user_id, status)
 VALUES (5, 'project5', 'description5', CURRENT_DATE, CURRENT_DATE + INTERVAL 3 DAY, 1, 'INITIATED');
+
+UPDATE id_generators SET next_val = GREATEST(next_val, 6) WHERE name = 'projects';
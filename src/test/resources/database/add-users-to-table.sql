@@ -1,3 +1,5 @@
 INSERT INTO users (id, username, email, password, first_name, last_name, role) VALUES (1, 'bob123', 'bob@email.com', 'Password123!!!', 'Bob', 'Lastname', 'USER'  );
 INSERT INTO users (id, username, email, password, first_name, last_name, role) VALUES (2, 'alice123', 'alice@email.com', 'Password123!!!', 'Alice', 'Lastname', 'USER');
 INSERT INTO users (id, username, email, password, first_name, last_name, role) VALUES (3, 'john123', 'john@email.com', 'Password123!!!', 'John', 'Lastname', 'ADMIN');
+
+UPDATE id_generators SET next_val = GREATEST(next_val, 4) WHERE name = 'users';
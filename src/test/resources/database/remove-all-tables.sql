@@ -1,2 +1,4 @@
+DELETE FROM project_status_counters;
+DELETE FROM projects_archive;
 DELETE FROM projects;
 DELETE FROM users;